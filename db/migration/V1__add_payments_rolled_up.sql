@@ -0,0 +1,16 @@
+-- 결제별 매출 집계 반영 여부 (SalesRollupService, PaymentRollupJdbcRepository)
+--
+-- 운영 DB는 마이그레이션 도구 없이 관리하므로 배포 전에 직접 실행한다.
+-- 기존 결제는 FALSE로 남겨도 된다. 재생성(rebuildDay)이 일자 잠금 후 해당 일자 결제를 모두 TRUE로 바꾼 뒤 다시 집계하고,
+-- 증분 반영은 새로 커밋된 결제만 다룬다.
+-- MySQL 8.0: 기본값이 있는 컬럼 추가는 INSTANT로 처리되어 테이블을 다시 쓰지 않는다.
+
+ALTER TABLE payments
+    ADD COLUMN rolled_up BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 집계 일자 잠금 행 (PaymentDailyRollupLock)
+CREATE TABLE IF NOT EXISTS payment_daily_rollup_lock
+(
+    sales_date DATE NOT NULL,
+    PRIMARY KEY (sales_date)
+);
@@ -0,0 +1,54 @@
+-- 승인 건 유니크 제약 (Payment.APPROVAL_UNIQUE_KEY, PayReportService 중복 보고 409 처리)
+--
+-- 운영 DB는 마이그레이션 도구 없이 관리하므로 배포 전에 직접 실행한다.
+-- 제약 도입 전 결제 보고 재시도로 같은 승인 건이 여러 번 저장됐을 수 있어, 가장 먼저 저장된 행(최소 payment_id)만 남기고 지운 뒤 제약을 건다.
+-- 키 컬럼에 NULL이 있는 행은 유니크 제약 대상이 아니므로 건드리지 않는다.
+
+-- 1. 중복 행 목록 (남길 행 keep_id)
+CREATE TEMPORARY TABLE payment_duplicates AS
+SELECT p.payment_id, k.keep_id, p.org_approved_date
+FROM payments p
+         JOIN (SELECT van_transaction_no, terminal_id, approval_no, MIN(payment_id) AS keep_id
+               FROM payments
+               GROUP BY van_transaction_no, terminal_id, approval_no
+               HAVING COUNT(*) > 1) k
+              ON p.van_transaction_no = k.van_transaction_no
+                  AND p.terminal_id = k.terminal_id
+                  AND p.approval_no = k.approval_no
+WHERE p.payment_id <> k.keep_id;
+
+-- 실행 전 확인용: 지울 행 수와 매출 집계를 다시 만들어야 하는 일자
+SELECT COUNT(*) AS duplicates FROM payment_duplicates;
+SELECT DISTINCT org_approved_date FROM payment_duplicates ORDER BY org_approved_date;
+
+-- 2. 중복 행 정리
+START TRANSACTION;
+
+-- 문자 발송 이력은 남기고 남길 결제로 옮긴다.
+UPDATE sms_outbox o
+    JOIN payment_duplicates d ON o.payment_id = d.payment_id
+SET o.payment_id = d.keep_id;
+
+-- 같은 보고의 재시도이므로 상품/배송 정보는 남길 결제에 이미 있다.
+DELETE i
+FROM payment_items i
+         JOIN payment_duplicates d ON i.payment_id = d.payment_id;
+
+DELETE dl
+FROM payment_deliveries dl
+         JOIN payment_duplicates d ON dl.payment_id = d.payment_id;
+
+DELETE p
+FROM payments p
+         JOIN payment_duplicates d ON p.payment_id = d.payment_id;
+
+COMMIT;
+
+-- 3. 제약 추가 (이름은 Payment.APPROVAL_UNIQUE_KEY와 같아야 409 변환이 동작한다)
+ALTER TABLE payments
+    ADD CONSTRAINT uk_payments_approval UNIQUE (van_transaction_no, terminal_id, approval_no);
+
+DROP TEMPORARY TABLE payment_duplicates;
+
+-- 4. 1번에서 확인한 일자의 매출 집계를 다시 만든다.
+--    POST /api/admin/sales/rollup/backfill?from=...&to=... (응답의 nextFrom이 없을 때까지)
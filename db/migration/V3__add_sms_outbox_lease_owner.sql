@@ -0,0 +1,7 @@
+-- SMS outbox 임대 토큰 (SmsOutboxService.claimDue / markSent / markFailed)
+--
+-- 운영 DB는 마이그레이션 도구 없이 관리하므로 배포 전에 직접 실행한다.
+-- 기존 행은 NULL로 남는다. 발송 중이던 건은 임대 만료 후 새 토큰으로 다시 가져가므로 별도 처리가 필요 없다.
+
+ALTER TABLE sms_outbox
+    ADD COLUMN lease_owner VARCHAR(36) NULL;
@@ -0,0 +1,83 @@
+// 가상 스레드 / 플랫폼 스레드 모드 비교 부하 테스트 (k6)
+//
+// 같은 데이터/인스턴스에서 모드만 바꿔 두 번 실행하고 요약(http_req_duration p95/p99, http_reqs)을 비교한다.
+//
+//   SPRING_THREADS_VIRTUAL_ENABLED=false docker compose up -d app
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform loadtest/pay-menu.js
+//   SPRING_THREADS_VIRTUAL_ENABLED=true docker compose up -d app
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=virtual loadtest/pay-menu.js
+//
+// 가상 스레드 모드에서는 관리 포트(8081)의 /actuator/metrics/jvm.threads.virtual.pinned 로 pinning 횟수를 함께 확인한다.
+//
+// 환경 변수
+//   BASE_URL       대상 서버 (기본 http://localhost:8080)
+//   KIOSK_ID       메뉴 조회 키오스크 ID (기본 1)
+//   PHONE_NUMBER   구매 이력 조회 전화번호 (기본 01012345678)
+//   REPORT_FILE    재전송할 결제 성공 보고 본문(JSON, 에이전트가 보낸 요청 그대로). 없으면 보고 시나리오 생략
+//   RATE           시나리오별 초당 요청 수 (기본 200)
+//   DURATION       측정 시간 (기본 2m)
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const KIOSK_ID = __ENV.KIOSK_ID || '1';
+const PHONE_NUMBER = __ENV.PHONE_NUMBER || '01012345678';
+const REPORT_BODY = __ENV.REPORT_FILE ? open(__ENV.REPORT_FILE) : null;
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '2m';
+
+// 중복 보고 처리 중(409)은 정상 응답으로 집계
+http.setResponseCallback(http.expectedStatuses({ min: 200, max: 399 }, 409));
+
+function constantRate(exec) {
+  return {
+    executor: 'constant-arrival-rate',
+    exec,
+    rate: RATE,
+    timeUnit: '1s',
+    duration: DURATION,
+    preAllocatedVUs: 100,
+    maxVUs: 2000,
+  };
+}
+
+const scenarios = {
+  menu: constantRate('menu'),
+  paymentHistory: constantRate('paymentHistory'),
+};
+if (REPORT_BODY) {
+  scenarios.paySuccess = constantRate('paySuccess');
+}
+
+export const options = {
+  scenarios,
+  tags: { mode: __ENV.MODE || 'unknown' },
+  thresholds: {
+    'http_req_failed': ['rate<0.01'],
+    'http_req_duration{scenario:menu}': ['p(95)<200'],
+    'http_req_duration{scenario:paymentHistory}': ['p(95)<500'],
+  },
+};
+
+// ETag 없이 매번 본문을 받는다 (304 경로는 측정하지 않음)
+export function menu() {
+  const res = http.get(`${BASE_URL}/api/menu?kiosk-id=${KIOSK_ID}`);
+  check(res, { 'menu 200': (r) => r.status === 200 });
+}
+
+// DB 조회 위주 경로
+export function paymentHistory() {
+  const res = http.get(`${BASE_URL}/api/pay/phone?phoneNumber=${PHONE_NUMBER}`);
+  check(res, { 'payment history 200': (r) => r.status === 200 });
+}
+
+// 같은 보고 재전송 - 첫 건 이후는 멱등성 키(Redis)로 응답 (200 중복, 처리 중이면 409)
+export function paySuccess() {
+  const res = http.post(`${BASE_URL}/api/pay/success`, REPORT_BODY, {
+    headers: { 'Content-Type': 'application/json' },
+  });
+  check(res, {
+    'pay success 2xx/409': (r) => (r.status >= 200 && r.status < 300) || r.status === 409,
+  });
+}
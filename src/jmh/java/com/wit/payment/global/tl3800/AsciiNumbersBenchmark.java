@@ -0,0 +1,144 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.wit.payment.global.tl3800.proto.AsciiNumbers;
+
+/**
+ * 승인 응답 숫자 필드 파싱: 기존 정규식/DateTimeFormatter 방식(legacy*) vs {@link AsciiNumbers}(scanner*).
+ *
+ * <p>PRIMARY는 매출일자/시간(72, 80)이 정상인 전문, FALLBACK은 해당 위치가 비어 있어 데이터 전체를 검색해야 하는 전문.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AsciiNumbersBenchmark {
+
+  @Param({"PRIMARY", "FALLBACK"})
+  public String layout;
+
+  private byte[] data;
+  private ByteBuffer buf;
+
+  @Setup
+  public void setUp() {
+    String dateTime = "PRIMARY".equals(layout) ? "20251208202639" : "              ";
+    String body =
+        "1"
+            + "2"
+            + "5310-****-****-1234 "
+            + "2512082026"
+            + "  12,000  "
+            + "00001090"
+            + "00000000"
+            + "00"
+            + "  12345678  "
+            + dateTime
+            + "251208000123"
+            + "MERCHANT0000001"
+            + "12345678900123"
+            + "ISSUER              "
+            + "ACQUIRER            "
+            + "APPROVED 20251208202639";
+    data = body.getBytes(US_ASCII);
+    buf = ByteBuffer.wrap(data).asReadOnlyBuffer();
+  }
+
+  @Benchmark
+  public int legacyParseAmount() {
+    return Legacy.parseAmount(data, 32, 10) + Legacy.parseAmount(data, 42, 8);
+  }
+
+  @Benchmark
+  public int scannerParseAmount() {
+    return (int) (AsciiNumbers.parseDigits(buf, 32, 42) + AsciiNumbers.parseDigits(buf, 42, 50));
+  }
+
+  @Benchmark
+  public void legacyDateTime(Blackhole bh) {
+    Legacy.dateTime(data, bh);
+  }
+
+  @Benchmark
+  public void scannerDateTime(Blackhole bh) {
+    if (AsciiNumbers.isDigits(buf, 72, 86) && buf.get(72) == '2' && buf.get(73) == '0') {
+      bh.consume(AsciiNumbers.parseYyyyMMdd(buf, 72));
+      bh.consume(AsciiNumbers.parseHHmmss(buf, 80));
+      return;
+    }
+    int limit = buf.limit();
+    for (int i = AsciiNumbers.indexOfDateTime14(buf, 0, limit);
+        i >= 0;
+        i = AsciiNumbers.indexOfDateTime14(buf, i + 14, limit)) {
+      LocalDate date = AsciiNumbers.parseYyyyMMdd(buf, i);
+      LocalTime time = AsciiNumbers.parseHHmmss(buf, i + 8);
+      if (date != null && time != null) {
+        bh.consume(date);
+        bh.consume(time);
+        return;
+      }
+    }
+  }
+
+  /** 기존 TL3800ApprovalInfo 구현 (비교 기준) */
+  static final class Legacy {
+
+    private static final DateTimeFormatter DATE8 = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIME6 = DateTimeFormatter.ofPattern("HHmmss");
+    private static final Pattern DT14_PATTERN = Pattern.compile("20\\d{12}");
+
+    static int parseAmount(byte[] src, int offset, int length) {
+      int safeLen = Math.max(0, Math.min(length, src.length - offset));
+      String digits = new String(src, offset, safeLen, US_ASCII).replaceAll("[^0-9]", "");
+      if (digits.isEmpty()) {
+        return 0;
+      }
+      long value = Long.parseLong(digits);
+      return value > Integer.MAX_VALUE ? 0 : (int) value;
+    }
+
+    static void dateTime(byte[] d, Blackhole bh) {
+      String dtDigits =
+          (new String(d, 72, 8, US_ASCII) + new String(d, 80, 6, US_ASCII))
+              .replaceAll("[^0-9]", "");
+      if (dtDigits.length() >= 14 && dtDigits.startsWith("20")) {
+        bh.consume(LocalDate.parse(dtDigits.substring(0, 8), DATE8));
+        bh.consume(LocalTime.parse(dtDigits.substring(8, 14), TIME6));
+        return;
+      }
+      Matcher m = DT14_PATTERN.matcher(new String(d, 0, d.length, US_ASCII));
+      while (m.find()) {
+        String cand = m.group();
+        try {
+          LocalDate date = LocalDate.parse(cand.substring(0, 8), DATE8);
+          LocalTime time = LocalTime.parse(cand.substring(8, 14), TIME6);
+          bh.consume(date);
+          bh.consume(time);
+          return;
+        } catch (Exception ignore) {
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.wit.payment.global.tl3800.proto.Bcc;
+
+/** BCC: 바이트 단위 XOR(기존) vs 8바이트 단위 XOR({@link Bcc}). 대량 재검증(리플레이/감사)용 큰 입력 포함. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BccBenchmark {
+
+  @Param({"64", "256", "4096", "65536"})
+  public int size;
+
+  private byte[] bytes;
+  private ByteBuffer direct;
+
+  @Setup
+  public void setUp() {
+    bytes = new byte[size];
+    new Random(3800).nextBytes(bytes);
+    direct = ByteBuffer.allocateDirect(size).put(bytes).flip();
+  }
+
+  @Benchmark
+  public byte bytewise() {
+    byte x = 0x00;
+    for (int i = 0; i < bytes.length; i++) {
+      x ^= bytes[i];
+    }
+    return x;
+  }
+
+  @Benchmark
+  public byte longWordArray() {
+    return Bcc.xor(bytes, 0, bytes.length - 1);
+  }
+
+  @Benchmark
+  public byte longWordDirectBuffer() {
+    return Bcc.xor(direct, 0, size - 1);
+  }
+}
@@ -0,0 +1,68 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.util.HexFormat;
+
+import com.wit.payment.global.tl3800.proto.TLPacket;
+
+/** 벤치마크용 승인 응답('b') 프레임. 실제 응답전문과 같은 필드 배치의 합성 데이터 (카드번호 등은 마스킹/가명) */
+public final class TL3800Fixtures {
+
+  private TL3800Fixtures() {}
+
+  static final String CAT_ID = "7109912041";
+  static final String HEADER_DT = "20251208202639";
+
+  /** 데이터 길이 변형 */
+  public enum Shape {
+    /** VAN 부가정보 없음 (167 bytes) */
+    BASE(""),
+    /** 일반적인 VAN 응답 메시지 포함 */
+    VAN_EXTRA("0000APPROVED                    "),
+    /** 긴 부가정보(포인트/쿠폰 안내 등) 포함 */
+    LONG_EXTRA("0000APPROVED " + "POINT 000001200 / COUPON NONE / ".repeat(16));
+
+    final String extra;
+
+    Shape(String extra) {
+      this.extra = extra;
+    }
+  }
+
+  /** 승인 응답 데이터 영역 */
+  static byte[] approvalData(Shape shape) {
+    String body =
+        "1" // 거래구분코드
+            + "1" // 거래매체 (IC)
+            + "531000******1234    " // 카드번호(마스킹) 20
+            + "2512082026" // 거래일시 YYMMDDhhmm
+            + "0000012000" // 승인금액 10
+            + "00001090" // 세금 8
+            + "00000000" // 봉사료 8
+            + "00" // 할부개월 2
+            + "30012345    " // 승인번호 12
+            + "20251208" // 매출일자 8
+            + "202639" // 매출시간 6
+            + "251208000123" // 거래고유번호 12
+            + "00123456789    " // 가맹점번호 15
+            + "71099120410123" // 단말기번호 14
+            + "0100KB KOOKMIN CARD " // 발급사정보 20
+            + "0100KB KOOKMIN CARD " // 매입사정보 20
+            + shape.extra;
+    return body.getBytes(US_ASCII);
+  }
+
+  /** STX~BCC 전체 프레임 */
+  static byte[] approvalFrame(Shape shape) {
+    return TLPacket.build(CAT_ID, HEADER_DT, 'b', 0, approvalData(shape));
+  }
+
+  /** 로컬 에이전트가 보고하는 HEX 문자열 (PaySuccessReportRequest.tlPacketHex) */
+  static String approvalHex(Shape shape) {
+    return HexFormat.of().withUpperCase().formatHex(approvalFrame(shape));
+  }
+}
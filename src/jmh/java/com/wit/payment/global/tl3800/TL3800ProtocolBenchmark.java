@@ -0,0 +1,114 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.wit.payment.global.tl3800.parser.TL3800ApprovalInfo;
+import com.wit.payment.global.tl3800.parser.TL3800ApprovalView;
+import com.wit.payment.global.tl3800.proto.JobCode;
+import com.wit.payment.global.tl3800.proto.Proto;
+import com.wit.payment.global.tl3800.proto.TLFrame;
+import com.wit.payment.global.tl3800.proto.TLFrameDecoder;
+import com.wit.payment.global.tl3800.proto.TLFrameEncoder;
+import com.wit.payment.global.tl3800.proto.TLPacket;
+
+/**
+ * 승인 보고마다 실행되는 TL3800 프로토콜 경로의 처리량/할당량.
+ *
+ * <p>gc 프로파일러(build.gradle의 jmh 설정)의 {@code gc.alloc.rate.norm}으로 호출당 할당 바이트를 함께 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TL3800ProtocolBenchmark {
+
+  @Param({"BASE", "VAN_EXTRA", "LONG_EXTRA"})
+  public TL3800Fixtures.Shape shape;
+
+  private byte[] data;
+  private byte[] frame;
+  private String hex;
+  private ByteBuffer frameBuf;
+  private TLFrameDecoder decoder;
+  private long decodedBytes;
+  private final TL3800ApprovalView view = new TL3800ApprovalView();
+  private final TLFrameEncoder encoder = new TLFrameEncoder(TL3800Fixtures.CAT_ID);
+  private final ByteBuffer out = ByteBuffer.allocate(TLFrameEncoder.frameLength(4096));
+
+  @Setup
+  public void setUp() {
+    data = TL3800Fixtures.approvalData(shape);
+    frame = TL3800Fixtures.approvalFrame(shape);
+    hex = TL3800Fixtures.approvalHex(shape);
+    frameBuf = ByteBuffer.wrap(frame).asReadOnlyBuffer();
+    decoder = new TLFrameDecoder(f -> decodedBytes += f.dataLength());
+  }
+
+  @Benchmark
+  public byte[] build() {
+    return TLPacket.build(TL3800Fixtures.CAT_ID, TL3800Fixtures.HEADER_DT, 'b', 0, data);
+  }
+
+  /** build와 같은 프레임을 재사용 버퍼에 쓰는 경우 */
+  @Benchmark
+  public int encodeIntoBuffer() {
+    return encoder.encode(out.clear(), JobCode.b, (byte) 0x00, data);
+  }
+
+  @Benchmark
+  public TLPacket parseStrict() {
+    return TLPacket.parseStrict(frame);
+  }
+
+  @Benchmark
+  public TLFrame frameOf() {
+    return TLFrame.of(frameBuf);
+  }
+
+  @Benchmark
+  public long decoder() {
+    decoder.decode(frameBuf.duplicate());
+    return decodedBytes;
+  }
+
+  @Benchmark
+  public byte bccXor() {
+    return Proto.bccXor(frame, 0, frame.length - 2);
+  }
+
+  @Benchmark
+  public int leUShortToInt() {
+    return Proto.leUShortToInt(frame[Proto.HEADER_BYTES - 2], frame[Proto.HEADER_BYTES - 1]);
+  }
+
+  @Benchmark
+  public TL3800ApprovalInfo approvalInfoFromHex() {
+    return TL3800ApprovalInfo.fromHex(hex);
+  }
+
+  /** 성공 보고 경로에서 실제로 저장하는 필드만 읽는 경우 */
+  @Benchmark
+  public void approvalViewFromFrame(Blackhole bh) {
+    view.wrap(TLFrame.of(frameBuf));
+    bh.consume(view.approvedAmount());
+    bh.consume(view.approvedDate());
+    bh.consume(view.approvedTime());
+    bh.consume(view.approvalNo());
+    bh.consume(view.vanTransactionId());
+    bh.consume(view.terminalNo());
+    bh.consume(view.vanExtraRaw());
+  }
+}
@@ -26,7 +26,10 @@ import com.wit.payment.global.exception.CustomException;
 import com.wit.payment.global.jwt.JwtProvider;
 import com.wit.payment.global.redis.RedisUtil;
 import com.wit.payment.global.security.SecurityUtil;
+import com.wit.payment.global.security.TokenBlacklist;
+import com.wit.payment.global.security.VerifiedTokenCache;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,11 +40,12 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthServiceImpl implements AuthService {
 
   private static final String REFRESH_TOKEN_PREFIX = "user:refresh:";
-  private static final String BLACKLIST_PREFIX = "blacklist:";
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final JwtProvider jwtProvider;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final TokenBlacklist tokenBlacklist;
   private final RedisUtil redisUtil;
   private final UserMapper userMapper;
 
@@ -65,18 +69,17 @@ public class AuthServiceImpl implements AuthService {
   public void logout(HttpServletRequest request, HttpServletResponse response) {
     String accessToken = SecurityUtil.resolveAccessToken(request);
 
-    if (accessToken == null || !jwtProvider.validateToken(accessToken)) {
+    if (accessToken == null) {
       log.warn("로그아웃 실패 - 유효하지 않은 AccessToken: {}", accessToken);
       throw new CustomException(AuthErrorCode.INVALID_ACCESS_TOKEN);
     }
 
-    Long userId = jwtProvider.extractUserId(accessToken);
+    // 서명/만료 검증과 jti/exp 추출을 한 번에
+    Claims claims = jwtProvider.parseVerifiedClaims(accessToken);
+    Long userId = Long.parseLong(claims.getSubject());
 
-    long expirationMillis =
-        jwtProvider.extractExpiration(accessToken).getTime() - System.currentTimeMillis();
-    long expirationSeconds = expirationMillis / 1000;
-
-    redisUtil.setData(BLACKLIST_PREFIX + accessToken, "logout", expirationSeconds);
+    tokenBlacklist.revoke(claims.getId(), claims.getExpiration().getTime());
+    verifiedTokenCache.invalidate(accessToken);
     redisUtil.deleteData(REFRESH_TOKEN_PREFIX + userId);
     deleteRefreshTokenCookie(response);
 
@@ -5,6 +5,7 @@ package com.wit.payment.domain.category.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +16,14 @@ import com.wit.payment.domain.category.entity.Category;
 import com.wit.payment.domain.category.exception.CategoryErrorCode;
 import com.wit.payment.domain.category.mapper.CategoryMapper;
 import com.wit.payment.domain.category.repository.CategoryRepository;
-import com.wit.payment.domain.product.dto.response.ProductSummaryResponse;
+import com.wit.payment.domain.menu.dto.response.MenuCategoryResponse;
+import com.wit.payment.domain.menu.event.MenuChangedEvent;
+import com.wit.payment.domain.menu.service.MenuSnapshot;
+import com.wit.payment.domain.menu.service.MenuSnapshotCache;
+import com.wit.payment.domain.product.entity.ProductImage;
+import com.wit.payment.domain.product.repository.ProductImageRepository;
 import com.wit.payment.domain.product.repository.ProductRepository;
-import com.wit.payment.domain.product.service.ProductService;
+import com.wit.payment.domain.product.service.ProductImageReleaser;
 import com.wit.payment.global.exception.CustomException;
 
 import lombok.RequiredArgsConstructor;
@@ -31,8 +37,11 @@ public class CategoryServiceImpl implements CategoryService {
 
   private final CategoryRepository categoryRepository;
   private final ProductRepository productRepository;
+  private final ProductImageRepository productImageRepository;
+  private final ProductImageReleaser productImageReleaser;
   private final CategoryMapper categoryMapper;
-  private final ProductService productService;
+  private final MenuSnapshotCache menuSnapshotCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -44,6 +53,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     Category category = categoryMapper.toCategory(request);
     Category saved = categoryRepository.save(category);
+    eventPublisher.publishEvent(new MenuChangedEvent("category.create"));
 
     log.info("카테고리 생성 성공 - categoryId: {}", saved.getId());
     return categoryMapper.toCategoryResponse(saved);
@@ -67,38 +77,45 @@ public class CategoryServiceImpl implements CategoryService {
             .findById(categoryId)
             .orElseThrow(() -> new CustomException(CategoryErrorCode.CATEGORY_NOT_FOUND));
 
+    // 상품 일괄 삭제 전에 이미지 참조를 해제한다. (마지막 참조였던 이미지는 커밋 이후 S3에서 삭제)
+    List<ProductImage> images = productImageRepository.findByProductCategoryId(categoryId);
+    productImageReleaser.release(images);
+
     long deletedCount = productRepository.deleteByCategoryId(categoryId);
     log.info(
-        "카테고리 연관 상품 삭제 성공 - categoryId: {}, deletedProductCount: {}", categoryId, deletedCount);
+        "카테고리 연관 상품 삭제 성공 - categoryId: {}, deletedProductCount: {}, releasedImageCount: {}",
+        categoryId,
+        deletedCount,
+        images.size());
 
     categoryRepository.delete(category);
+    eventPublisher.publishEvent(new MenuChangedEvent("category.delete"));
     log.info("카테고리 삭제 성공(hard delete) - categoryId: {}", categoryId);
   }
 
+  /** 키오스크 메뉴 스냅샷에서 바로 응답한다. (메뉴 변경이 없으면 DB 조회 없음) */
   @Override
   public FirstCategoryResponse getFirstCategoryWithProducts(Long kioskId) {
 
-    List<Category> categories = categoryRepository.findAll();
+    MenuSnapshot snapshot = menuSnapshotCache.get(kioskId);
+    MenuCategoryResponse firstCategory = snapshot.firstCategory();
 
-    if (categories.isEmpty()) {
+    if (firstCategory == null) {
       throw new CustomException(CategoryErrorCode.CATEGORY_NOT_FOUND);
     }
 
-    Category firstCategory = categories.get(0);
-
-    List<ProductSummaryResponse> products =
-        productService.getProductsByCategory(firstCategory.getId(), kioskId);
-
     log.info(
         "첫 번째 카테고리의 상품 조회 완료 - categoryId: {}, kioskId: {}, count: {}",
-        firstCategory.getId(),
+        firstCategory.id(),
         kioskId,
-        products.size());
+        firstCategory.products().size());
+
+    List<CategoryResponse> categories =
+        snapshot.menu().categories().stream()
+            .map(c -> CategoryResponse.builder().id(c.id()).name(c.name()).build())
+            .toList();
 
     return new FirstCategoryResponse(
-        categoryMapper.toCategoryResponseList(categories),
-        firstCategory.getId(),
-        firstCategory.getName(),
-        products);
+        categories, firstCategory.id(), firstCategory.name(), firstCategory.products());
   }
 }
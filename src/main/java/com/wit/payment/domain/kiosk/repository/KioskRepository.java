@@ -6,6 +6,7 @@ package com.wit.payment.domain.kiosk.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.wit.payment.domain.kiosk.entity.Kiosk;
 
@@ -14,4 +15,7 @@ public interface KioskRepository extends JpaRepository<Kiosk, Long> {
   List<Kiosk> findByIdIn(List<Long> ids);
 
   boolean existsByName(String name);
+
+  @Query("select k.id from Kiosk k")
+  List<Long> findAllIds();
 }
@@ -0,0 +1,48 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.kiosk.service;
+
+import java.util.Set;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wit.payment.domain.kiosk.repository.KioskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지표용 kiosk 태그 값.
+ *
+ * <p>kioskId는 클라이언트가 보내는 값이라 그대로 태그로 쓰면 임의의 값으로 시계열이 무한히 늘어난다. 등록된 키오스크 ID만 그대로 쓰고, 나머지는
+ * unknown(없으면 none)으로 묶는다. 등록된 ID 목록은 주기적으로 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KioskMetricTags {
+
+  private final KioskRepository kioskRepository;
+
+  private volatile Set<Long> knownIds = Set.of();
+
+  public String of(Long kioskId) {
+    if (kioskId == null) {
+      return "none";
+    }
+    return knownIds.contains(kioskId) ? String.valueOf(kioskId) : "unknown";
+  }
+
+  @Scheduled(
+      initialDelayString = "${monitoring.kiosk-tags.initial-delay-ms:0}",
+      fixedDelayString = "${monitoring.kiosk-tags.refresh-ms:60000}")
+  public void refresh() {
+    try {
+      knownIds = Set.copyOf(kioskRepository.findAllIds());
+    } catch (RuntimeException e) {
+      log.warn("[MONITOR] 키오스크 ID 목록 갱신 실패 - ex={}", e.toString());
+    }
+  }
+}
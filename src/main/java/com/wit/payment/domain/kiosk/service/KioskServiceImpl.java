@@ -5,6 +5,7 @@ package com.wit.payment.domain.kiosk.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,7 @@ import com.wit.payment.domain.kiosk.entity.Kiosk;
 import com.wit.payment.domain.kiosk.exception.KioskErrorCode;
 import com.wit.payment.domain.kiosk.mapper.KioskMapper;
 import com.wit.payment.domain.kiosk.repository.KioskRepository;
+import com.wit.payment.domain.menu.event.MenuChangedEvent;
 import com.wit.payment.global.exception.CustomException;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,7 @@ public class KioskServiceImpl implements KioskService {
 
   private final KioskRepository kioskRepository;
   private final KioskMapper kioskMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -38,6 +41,7 @@ public class KioskServiceImpl implements KioskService {
 
     Kiosk kiosk = kioskMapper.toKiosk(request);
     Kiosk saved = kioskRepository.save(kiosk);
+    eventPublisher.publishEvent(new MenuChangedEvent("kiosk.create"));
 
     log.info("키오스크 생성 성공 - kioskId: {}, name: {}", saved.getId(), saved.getName());
     return kioskMapper.toKioskResponse(saved);
@@ -52,6 +56,7 @@ public class KioskServiceImpl implements KioskService {
             .orElseThrow(() -> new CustomException(KioskErrorCode.KIOSK_NOT_FOUND));
 
     kiosk.update(request.getName());
+    eventPublisher.publishEvent(new MenuChangedEvent("kiosk.update"));
 
     log.info("키오스크 수정 성공 - kioskId: {}", kioskId);
     return kioskMapper.toKioskResponse(kiosk);
@@ -66,6 +71,7 @@ public class KioskServiceImpl implements KioskService {
             .orElseThrow(() -> new CustomException(KioskErrorCode.KIOSK_NOT_FOUND));
 
     kioskRepository.delete(kiosk);
+    eventPublisher.publishEvent(new MenuChangedEvent("kiosk.delete"));
 
     log.info("키오스크 삭제 성공 - kioskId: {}", kioskId);
   }
@@ -0,0 +1,60 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.menu.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.wit.payment.domain.menu.dto.response.MenuResponse;
+import com.wit.payment.domain.menu.service.MenuSnapshot;
+import com.wit.payment.domain.menu.service.MenuSnapshotCache;
+import com.wit.payment.global.response.BaseResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Menu", description = "키오스크 메뉴 API")
+@RestController
+@RequestMapping(value = "/api", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+public class MenuController {
+
+  private final MenuSnapshotCache menuSnapshotCache;
+
+  @GetMapping("/menu")
+  @Operation(
+      summary = "키오스크 전체 메뉴 조회 API",
+      description =
+          "전체 카테고리와 카테고리별 노출 상품(대표 이미지 포함)을 한 번에 조회합니다. "
+              + "ETag를 If-None-Match로 보내면 메뉴가 바뀌지 않은 경우 304를 응답합니다.")
+  public ResponseEntity<BaseResponse<MenuResponse>> getMenu(
+      @Parameter(description = "필터링할 키오스크 식별자(선택)", example = "1")
+          @RequestParam(value = "kiosk-id", required = false)
+          Long kioskId,
+      WebRequest webRequest) {
+
+    MenuSnapshot snapshot = menuSnapshotCache.get(kioskId);
+
+    if (webRequest.checkNotModified(snapshot.etag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(snapshot.etag())
+          .cacheControl(CacheControl.noCache())
+          .build();
+    }
+
+    return ResponseEntity.ok()
+        .eTag(snapshot.etag())
+        .cacheControl(CacheControl.noCache())
+        .body(BaseResponse.success("메뉴 조회가 완료되었습니다.", snapshot.menu()));
+  }
+}
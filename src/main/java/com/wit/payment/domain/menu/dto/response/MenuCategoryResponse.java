@@ -0,0 +1,16 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.menu.dto.response;
+
+import java.util.List;
+
+import com.wit.payment.domain.product.dto.response.ProductSummaryResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "메뉴 카테고리 (노출 상품 포함)")
+public record MenuCategoryResponse(
+    @Schema(description = "카테고리 식별자", example = "1") Long id,
+    @Schema(description = "카테고리 이름", example = "WITH Goods") String name,
+    @Schema(description = "카테고리 상품 목록 (등록순)") List<ProductSummaryResponse> products) {}
@@ -0,0 +1,13 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.menu.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "키오스크 전체 메뉴 응답")
+public record MenuResponse(
+    @Schema(description = "키오스크 식별자 (전체 메뉴면 null)", example = "1") Long kioskId,
+    @Schema(description = "카테고리별 메뉴") List<MenuCategoryResponse> categories) {}
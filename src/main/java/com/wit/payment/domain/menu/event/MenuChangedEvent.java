@@ -0,0 +1,7 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.menu.event;
+
+/** 키오스크 메뉴(카테고리/상품/키오스크 노출)에 영향을 주는 변경. 커밋 이후 메뉴 스냅샷을 무효화한다. */
+public record MenuChangedEvent(String source) {}
@@ -0,0 +1,35 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.menu.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.wit.payment.domain.menu.dto.response.MenuCategoryResponse;
+import com.wit.payment.domain.menu.dto.response.MenuResponse;
+
+/**
+ * 키오스크별 메뉴 스냅샷 (불변).
+ *
+ * @param version 만들 당시의 메뉴 버전 (현재 버전과 다르면 다시 만든다)
+ * @param etag 메뉴 내용 해시 (서버 재시작/인스턴스와 무관하게 내용이 같으면 같음)
+ */
+public record MenuSnapshot(
+    long version, MenuResponse menu, Map<Long, MenuCategoryResponse> byCategoryId, String etag) {
+
+  static MenuSnapshot of(long version, MenuResponse menu, String etag) {
+    Map<Long, MenuCategoryResponse> byCategoryId =
+        menu.categories().stream()
+            .collect(Collectors.toUnmodifiableMap(MenuCategoryResponse::id, Function.identity()));
+    return new MenuSnapshot(version, menu, byCategoryId, etag);
+  }
+
+  /** 첫 번째 카테고리 (카테고리가 없으면 null) */
+  public MenuCategoryResponse firstCategory() {
+    List<MenuCategoryResponse> categories = menu.categories();
+    return categories.isEmpty() ? null : categories.getFirst();
+  }
+}
@@ -0,0 +1,194 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.menu.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wit.payment.domain.category.entity.Category;
+import com.wit.payment.domain.category.repository.CategoryRepository;
+import com.wit.payment.domain.kiosk.exception.KioskErrorCode;
+import com.wit.payment.domain.kiosk.repository.KioskRepository;
+import com.wit.payment.domain.menu.dto.response.MenuCategoryResponse;
+import com.wit.payment.domain.menu.dto.response.MenuResponse;
+import com.wit.payment.domain.menu.event.MenuChangedEvent;
+import com.wit.payment.domain.product.dto.response.ProductSummaryResponse;
+import com.wit.payment.domain.product.entity.ProductStatus;
+import com.wit.payment.domain.product.mapper.ProductMapper;
+import com.wit.payment.domain.product.repository.ProductRepository;
+import com.wit.payment.domain.product.repository.ProductSummaryRow;
+import com.wit.payment.global.cache.TwoTierCache;
+import com.wit.payment.global.cache.TwoTierCacheManager;
+import com.wit.payment.global.exception.CustomException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키오스크별 메뉴 스냅샷 캐시.
+ *
+ * <p>메뉴 변경이 커밋되면 버전을 올리고, 다음 조회 시 해당 키오스크 스냅샷을 새로 만들어 통째로 교체한다. 조회 중인 요청은 이전 스냅샷을 끝까지 그대로
+ * 쓴다. 버전은 조회를 시작하기 전에 읽으므로, 만드는 도중 변경이 커밋되면 그 스냅샷은 다음 조회에서 다시 만들어진다.
+ *
+ * <p>스냅샷 원본(MenuResponse)은 Redis에 공유해 두고, Redis에도 없을 때만 쿼리 2회(카테고리, 상품 요약 프로젝션)로 만든다. 무효화는
+ * Redis pub/sub으로 다른 인스턴스에도 전파된다. 무효화 메시지를 놓친 인스턴스를 위해 스냅샷은 local-ttl 이 지나면 버리고, 다시 만들 때
+ * Redis의 현재 세대 키를 읽으므로 그 이후에는 최신 메뉴/ETag를 돌려준다.
+ */
+@Slf4j
+@Component
+public class MenuSnapshotCache {
+
+  /** kioskId 미지정(전체 메뉴) 스냅샷의 캐시 키 */
+  private static final long ALL_KIOSKS = 0L;
+
+  private final CategoryRepository categoryRepository;
+  private final ProductRepository productRepository;
+  private final KioskRepository kioskRepository;
+  private final ProductMapper productMapper;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnly;
+  private final TwoTierCache<MenuResponse> sharedMenus;
+
+  private final AtomicLong version = new AtomicLong();
+  private final ConcurrentMap<Long, MenuSnapshot> snapshots;
+
+  public MenuSnapshotCache(
+      CategoryRepository categoryRepository,
+      ProductRepository productRepository,
+      KioskRepository kioskRepository,
+      ProductMapper productMapper,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      TwoTierCacheManager cacheManager,
+      @Value("${cache.menu.local-ttl-seconds:60}") long localTtlSeconds,
+      @Value("${cache.menu.redis-ttl-seconds:600}") long redisTtlSeconds) {
+    this.categoryRepository = categoryRepository;
+    this.productRepository = productRepository;
+    this.kioskRepository = kioskRepository;
+    this.productMapper = productMapper;
+    this.objectMapper = objectMapper;
+    this.readOnly = new TransactionTemplate(transactionManager);
+    this.readOnly.setReadOnly(true);
+    this.snapshots =
+        Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .<Long, MenuSnapshot>build()
+            .asMap();
+
+    // 스냅샷 맵이 로컬 캐시 역할을 하므로 Redis 단계만 사용
+    this.sharedMenus =
+        cacheManager.create(
+            "menu", MenuResponse.class, 0, Duration.ZERO, Duration.ofSeconds(redisTtlSeconds));
+    this.sharedMenus.addInvalidationListener(this::invalidateLocal);
+  }
+
+  /**
+   * 키오스크 메뉴 스냅샷 (kioskId == null 이면 숨김 상품을 제외한 전체 메뉴).
+   *
+   * @throws CustomException 존재하지 않는 키오스크 (KIOSK_NOT_FOUND)
+   */
+  public MenuSnapshot get(Long kioskId) {
+    long key = kioskId == null ? ALL_KIOSKS : kioskId;
+    long current = version.get();
+
+    MenuSnapshot cached = snapshots.get(key);
+    if (cached != null && cached.version() == current) {
+      return cached;
+    }
+
+    // 조회는 락 밖에서 하고, 더 최신 버전이 이미 들어가 있으면 그것을 남긴다.
+    MenuSnapshot built = build(kioskId, current);
+    return snapshots.merge(
+        key, built, (old, fresh) -> old.version() >= fresh.version() ? old : fresh);
+  }
+
+  /** 메뉴 변경 커밋 이후 전체 무효화 (모든 인스턴스에서 다음 조회 시 키오스크별로 다시 만든다) */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onMenuChanged(MenuChangedEvent event) {
+    log.info("[MENU] 메뉴 변경 - source={}", event.source());
+    sharedMenus.invalidateAll();
+  }
+
+  private void invalidateLocal() {
+    long next = version.incrementAndGet();
+    snapshots.clear();
+    log.info("[MENU] 메뉴 스냅샷 무효화 - version={}", next);
+  }
+
+  private MenuSnapshot build(Long kioskId, long snapshotVersion) {
+    MenuResponse menu =
+        sharedMenus.get(
+            kioskId == null ? "all" : String.valueOf(kioskId),
+            () -> readOnly.execute(status -> load(kioskId)));
+    MenuSnapshot snapshot = MenuSnapshot.of(snapshotVersion, menu, etagOf(menu));
+
+    log.info(
+        "[MENU] 메뉴 스냅샷 생성 - kioskId={}, version={}, categories={}",
+        kioskId,
+        snapshotVersion,
+        menu.categories().size());
+    return snapshot;
+  }
+
+  private MenuResponse load(Long kioskId) {
+    if (kioskId != null && !kioskRepository.existsById(kioskId)) {
+      throw new CustomException(KioskErrorCode.KIOSK_NOT_FOUND);
+    }
+
+    List<Category> categories = categoryRepository.findAll(Sort.by("id"));
+    List<ProductSummaryRow> products =
+        kioskId == null
+            ? productRepository.findSummaries(ProductStatus.HIDDEN)
+            : productRepository.findSummariesByKiosk(kioskId, ProductStatus.HIDDEN);
+
+    // 카테고리별 상품 (등록순 유지, 대표 이미지 순서가 같은 이미지가 여럿이면 첫 행만 사용)
+    Map<Long, List<ProductSummaryResponse>> byCategory = new LinkedHashMap<>();
+    Set<Long> seen = new HashSet<>();
+    for (ProductSummaryRow row : products) {
+      if (seen.add(row.id())) {
+        byCategory
+            .computeIfAbsent(row.categoryId(), k -> new ArrayList<>())
+            .add(productMapper.toProductSummaryResponse(row));
+      }
+    }
+
+    List<MenuCategoryResponse> menuCategories =
+        categories.stream()
+            .map(
+                c ->
+                    new MenuCategoryResponse(
+                        c.getId(),
+                        c.getName(),
+                        List.copyOf(byCategory.getOrDefault(c.getId(), List.of()))))
+            .toList();
+
+    return new MenuResponse(kioskId, menuCategories);
+  }
+
+  private String etagOf(MenuResponse menu) {
+    try {
+      return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(menu)) + "\"";
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("menu serialization failed", e);
+    }
+  }
+}
@@ -3,11 +3,17 @@
  */
 package com.wit.payment.domain.pay.controller;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,15 +23,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.wit.payment.domain.pay.dto.request.PaymentExportFormat;
 import com.wit.payment.domain.pay.dto.request.PaymentOptionAndDeliveryRequest;
 import com.wit.payment.domain.pay.dto.response.PaymentIssueResponse;
-import com.wit.payment.domain.pay.dto.response.PaymentSummaryResponse;
+import com.wit.payment.domain.pay.dto.response.PaymentPageResponse;
 import com.wit.payment.domain.pay.dto.response.PaymentWithItemsResponse;
 import com.wit.payment.domain.pay.service.PayService;
+import com.wit.payment.domain.pay.service.PaymentExportService;
 import com.wit.payment.global.response.BaseResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -35,16 +45,78 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PayController {
 
+  private static final DateTimeFormatter EXPORT_FILE_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
   private final PayService payService;
+  private final PaymentExportService paymentExportService;
 
   @GetMapping("/admin/payments")
-  @Operation(summary = "결제 내역 전체 조회 API", description = "승인된 결제 내역을 최신순으로 전체 조회합니다.")
-  public ResponseEntity<BaseResponse<List<PaymentSummaryResponse>>> getAllPayments() {
-
-    List<PaymentSummaryResponse> responses = payService.getAllPayments();
+  @Operation(
+      summary = "결제 내역 조회 API",
+      description = "승인된 결제 내역을 최신순으로 커서 페이지 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+  public ResponseEntity<BaseResponse<PaymentPageResponse>> getPayments(
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)")
+          @RequestParam(value = "cursor", required = false)
+          String cursor,
+      @Parameter(description = "페이지 크기 (기본 50, 최대 200)", example = "50")
+          @RequestParam(value = "size", required = false)
+          Integer size,
+      @Parameter(description = "승인일자 시작 (포함)", example = "2025-12-01")
+          @RequestParam(value = "from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @Parameter(description = "승인일자 종료 (포함)", example = "2025-12-31")
+          @RequestParam(value = "to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to,
+      @Parameter(description = "단말기 ID (TID)", example = "7109912041")
+          @RequestParam(value = "terminal-id", required = false)
+          String terminalId) {
+
+    PaymentPageResponse response = payService.getPayments(cursor, size, from, to, terminalId);
 
     return ResponseEntity.status(HttpStatus.OK)
-        .body(BaseResponse.success("결제 내역 조회가 완료되었습니다.", responses));
+        .body(BaseResponse.success("결제 내역 조회가 완료되었습니다.", response));
+  }
+
+  @GetMapping(
+      value = "/admin/payments/export",
+      produces = {"text/csv", "application/x-ndjson"})
+  @Operation(
+      summary = "결제 내역 내보내기 API",
+      description =
+          "정산 대사용 결제 내역(승인번호, 거래고유번호, 단말기번호, 금액/부가세 등)을 "
+              + "승인일시 순으로 CSV 또는 NDJSON 파일로 스트리밍합니다.")
+  public ResponseEntity<StreamingResponseBody> exportPayments(
+      @Parameter(description = "파일 형식 (CSV, NDJSON)", example = "CSV")
+          @RequestParam(value = "format", defaultValue = "CSV")
+          PaymentExportFormat format,
+      @Parameter(description = "승인일자 시작 (포함)", example = "2025-12-01")
+          @RequestParam(value = "from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @Parameter(description = "승인일자 종료 (포함)", example = "2025-12-31")
+          @RequestParam(value = "to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to,
+      @Parameter(description = "단말기 ID (TID)", example = "7109912041")
+          @RequestParam(value = "terminal-id", required = false)
+          String terminalId) {
+
+    paymentExportService.validateRange(from, to);
+
+    String filename =
+        "payments-" + LocalDateTime.now().format(EXPORT_FILE_TIME) + "." + format.getExtension();
+    StreamingResponseBody body =
+        out -> paymentExportService.export(out, format, from, to, terminalId);
+
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
   }
 
   @GetMapping("/admin/issues")
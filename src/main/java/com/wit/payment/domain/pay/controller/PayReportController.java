@@ -14,7 +14,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.wit.payment.domain.pay.dto.request.PayFailureReportRequest;
+import com.wit.payment.domain.pay.dto.request.PaySuccessBatchReportRequest;
 import com.wit.payment.domain.pay.dto.request.PaySuccessReportRequest;
+import com.wit.payment.domain.pay.dto.response.PayBatchReportResponse;
+import com.wit.payment.domain.pay.dto.response.PayReportResponse;
 import com.wit.payment.domain.pay.service.PayReportService;
 import com.wit.payment.global.response.BaseResponse;
 
@@ -32,15 +35,32 @@ public class PayReportController {
 
   @Operation(
       summary = "로컬 결제 성공 보고 수신 API",
-      description = "키오스크 로컬 에이전트에서 TL3800 승인 결과를 보고하면 중앙 서버에서 Payment를 생성합니다.")
+      description =
+          "키오스크 로컬 에이전트에서 TL3800 승인 결과를 보고하면 중앙 서버에서 Payment를 생성합니다. 같은 보고를 재전송하면 새로 저장하지 않고 기존 결제 ID를 200으로 반환하며, 같은 보고를 처리 중이면 409를 반환합니다.")
   @PostMapping("/success")
-  public ResponseEntity<BaseResponse<Void>> reportSuccess(
+  public ResponseEntity<BaseResponse<PayReportResponse>> reportSuccess(
       @Valid @RequestBody PaySuccessReportRequest request) {
 
-    payReportService.reportSuccess(request);
+    PayReportResponse response = payReportService.reportSuccess(request);
 
+    if (response.duplicate()) {
+      return ResponseEntity.ok(BaseResponse.success("이미 처리된 결제 성공 보고입니다.", response));
+    }
     return ResponseEntity.status(HttpStatus.CREATED)
-        .body(BaseResponse.success("결제 성공 보고가 처리되었습니다.", null));
+        .body(BaseResponse.success("결제 성공 보고가 처리되었습니다.", response));
+  }
+
+  @Operation(
+      summary = "로컬 결제 성공 일괄 보고 수신 API",
+      description =
+          "네트워크 장애 등으로 밀린 결제 성공 보고를 한 번에 수신합니다. 이미 저장된 보고는 기존 결제 ID로 응답하고, TL 패킷 파싱에 성공한 새 건만 한 트랜잭션으로 저장하고, 건별 처리 결과를 요청 순서대로 반환합니다.")
+  @PostMapping("/success/batch")
+  public ResponseEntity<BaseResponse<PayBatchReportResponse>> reportSuccessBatch(
+      @Valid @RequestBody PaySuccessBatchReportRequest request) {
+
+    PayBatchReportResponse response = payReportService.reportSuccessBatch(request);
+
+    return ResponseEntity.ok(BaseResponse.success("결제 성공 일괄 보고가 처리되었습니다.", response));
   }
 
   @Operation(
@@ -28,4 +28,5 @@ public record PayRequest(
         @Pattern(regexp = "\\d{2}")
         String inst,
     @Schema(description = "키오스크로 촬영한 이미지 URL", example = "https://bucket.s3....") String imageUrl,
-    @Schema(description = "배송 여부 (true = 배송, false = 현장수령)", example = "true") boolean delivery) {}
+    @Schema(description = "배송 여부 (true = 배송, false = 현장수령)", example = "true") boolean delivery,
+    @Schema(description = "결제한 키오스크 ID (매출 집계용, 선택)", example = "1") Long kioskId) {}
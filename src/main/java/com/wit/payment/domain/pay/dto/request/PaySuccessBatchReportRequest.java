@@ -0,0 +1,20 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "로컬 → 중앙 서버 결제 성공 일괄 보고 DTO (네트워크 장애 후 밀린 보고 전송 등)")
+public record PaySuccessBatchReportRequest(
+    @Schema(description = "결제 성공 보고 목록 (최대 500건)", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty
+        @Size(max = 500)
+        @Valid
+        List<PaySuccessReportRequest> reports) {}
@@ -0,0 +1,17 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PaymentExportFormat {
+  CSV("text/csv; charset=UTF-8", "csv"), // 엑셀 호환 (UTF-8 BOM 포함)
+  NDJSON("application/x-ndjson", "ndjson"); // 한 줄에 JSON 객체 하나
+
+  private final String contentType;
+  private final String extension;
+}
@@ -0,0 +1,30 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "결제 성공 일괄 보고 건별 결과")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PayBatchItemResponse(
+    @Schema(description = "요청 목록 내 순번 (0부터)", example = "0") int index,
+    @Schema(description = "저장 성공 여부", example = "true") boolean success,
+    @Schema(description = "결제 ID (성공 시)", example = "1001") Long paymentId,
+    @Schema(description = "실패 사유 (실패 시)", example = "BCC mismatch ...") String message) {
+
+  public static PayBatchItemResponse saved(int index, Long paymentId) {
+    return new PayBatchItemResponse(index, true, paymentId, null);
+  }
+
+  /** 이미 저장된 결제 보고 (재전송) - 기존 결제 ID를 돌려준다. */
+  public static PayBatchItemResponse duplicate(int index, Long paymentId) {
+    return new PayBatchItemResponse(index, true, paymentId, "이미 저장된 결제 보고입니다.");
+  }
+
+  public static PayBatchItemResponse failed(int index, String message) {
+    return new PayBatchItemResponse(index, false, null, message);
+  }
+}
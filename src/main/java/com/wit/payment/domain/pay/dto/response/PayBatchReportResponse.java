@@ -0,0 +1,18 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "결제 성공 일괄 보고 처리 결과")
+@Builder
+public record PayBatchReportResponse(
+    @Schema(description = "요청 건수", example = "3") int total,
+    @Schema(description = "저장 성공 건수 (중복 보고 포함)", example = "2") int succeeded,
+    @Schema(description = "이미 저장되어 있던 중복 보고 건수", example = "0") int duplicated,
+    @Schema(description = "실패 건수", example = "1") int failed,
+    @Schema(description = "건별 처리 결과 (요청 순서와 동일)") List<PayBatchItemResponse> results) {}
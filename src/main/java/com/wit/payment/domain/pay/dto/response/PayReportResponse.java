@@ -0,0 +1,11 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "결제 성공 보고 처리 결과")
+public record PayReportResponse(
+    @Schema(description = "결제 ID", example = "1001") Long paymentId,
+    @Schema(description = "이미 저장된 보고의 재전송 여부", example = "false") boolean duplicate) {}
@@ -0,0 +1,17 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "결제 내역 커서 페이지 응답")
+@Builder
+public record PaymentPageResponse(
+    @Schema(description = "결제 내역 (승인일시 최신순)") List<PaymentSummaryResponse> content,
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0xMi0wNHwxMzo0NToyMXwxMjM")
+        String nextCursor,
+    @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext) {}
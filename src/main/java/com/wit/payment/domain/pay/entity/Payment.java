@@ -14,10 +14,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import org.hibernate.annotations.ColumnDefault;
 
 import com.wit.payment.global.common.BaseTimeEntity;
 
@@ -30,13 +34,37 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "payments")
+@Table(
+    name = "payments",
+    indexes = {
+      // 결제 내역 keyset 페이지 (승인일시 최신순)
+      @Index(
+          name = "idx_payments_approved_at",
+          columnList = "org_approved_date, org_approved_time, payment_id"),
+      // 단말별 결제 내역
+      @Index(
+          name = "idx_payments_terminal_approved_at",
+          columnList = "terminal_id, org_approved_date, org_approved_time, payment_id")
+    },
+    uniqueConstraints = {
+      // 같은 승인 건은 한 번만 저장 (결제 보고 재시도 중복 방지)
+      @UniqueConstraint(
+          name = Payment.APPROVAL_UNIQUE_KEY,
+          columnNames = {"van_transaction_no", "terminal_id", "approval_no"})
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder(toBuilder = true)
 public class Payment extends BaseTimeEntity {
 
+  /**
+   * 승인 건 유니크 제약 이름 (van_transaction_no, terminal_id, approval_no)
+   *
+   * <p>운영 DB 중복 정리와 제약 추가: db/migration/V2__add_uk_payments_approval.sql
+   */
+  public static final String APPROVAL_UNIQUE_KEY = "uk_payments_approval";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   @Column(name = "payment_id")
@@ -52,6 +80,10 @@ public class Payment extends BaseTimeEntity {
   @Column(name = "delivery", nullable = false)
   private boolean delivery;
 
+  /** 결제한 키오스크 ID (구버전 에이전트 보고는 null) */
+  @Column(name = "kiosk_id")
+  private Long kioskId;
+
   /** 승인금액(원거래금액 + 세금 + 봉사료) */
   @Column(name = "amount", nullable = false)
   private Integer amount;
@@ -117,6 +149,16 @@ public class Payment extends BaseTimeEntity {
   @Column(name = "van_extra_raw", length = 255)
   private String vanExtraRaw;
 
+  // --- 매출 집계 ---
+  /**
+   * 일별 매출 집계에 반영됨 (증분 반영 또는 재생성 시 표시, 중복 반영 방지)
+   *
+   * <p>운영 DB 컬럼 추가: db/migration/V1__add_payments_rolled_up.sql
+   */
+  @ColumnDefault("false")
+  @Column(name = "rolled_up", nullable = false)
+  private boolean rolledUp;
+
   // --- 연관관계 ---
   /** 상세 배송 정보 1:1 (optional) */
   @Setter
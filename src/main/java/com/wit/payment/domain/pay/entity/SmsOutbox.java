@@ -0,0 +1,115 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import com.wit.payment.global.common.BaseTimeEntity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * SMS 발송 outbox.
+ *
+ * <p>결제 저장과 같은 트랜잭션에서 기록하고, 실제 발송은 커밋 이후 백그라운드 워커가 수행한다. 발송 중인 건은 nextAttemptAt을 임대 만료 시각으로 밀어 두므로,
+ * 워커가 중간에 죽어도 만료 후 다시 집어 간다. 결과 기록은 임대를 가진 워커(leaseOwner)가 만료 전에 할 때만 반영된다.
+ */
+@Getter
+@Entity
+@Table(
+    name = "sms_outbox",
+    indexes = @Index(name = "idx_sms_outbox_due", columnList = "status, next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(toBuilder = true)
+public class SmsOutbox extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "sms_outbox_id")
+  private Long id;
+
+  /** 관련 결제 ID (없을 수 있음) */
+  @Column(name = "payment_id")
+  private Long paymentId;
+
+  /** 수신자 전화번호 */
+  @Column(name = "phone_number", length = 20, nullable = false)
+  private String phoneNumber;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", length = 20, nullable = false)
+  @Default
+  private SmsOutboxStatus status = SmsOutboxStatus.PENDING;
+
+  /** 발송 시도 횟수 */
+  @Column(name = "attempts", nullable = false)
+  @Default
+  private int attempts = 0;
+
+  /** 다음 발송 가능 시각 (발송 중이면 임대 만료 시각) */
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  /** 마지막 실패 사유 */
+  @Column(name = "last_error", length = 255)
+  private String lastError;
+
+  /** 발송 완료 시각 */
+  @Column(name = "sent_at")
+  private LocalDateTime sentAt;
+
+  /** 발송 중인 워커의 임대 토큰 (발송 중이 아니면 null) */
+  @Column(name = "lease_owner", length = 36)
+  private String leaseOwner;
+
+  public static SmsOutbox pending(Long paymentId, String phoneNumber) {
+    return SmsOutbox.builder()
+        .paymentId(paymentId)
+        .phoneNumber(phoneNumber)
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+  }
+
+  // 상태 변경용 도메인 메서드
+  public void lease(String owner, LocalDateTime until) {
+    this.leaseOwner = owner;
+    this.nextAttemptAt = until;
+  }
+
+  public void markSent(LocalDateTime now) {
+    this.status = SmsOutboxStatus.SENT;
+    this.attempts++;
+    this.sentAt = now;
+    this.lastError = null;
+    this.leaseOwner = null;
+  }
+
+  /** 실패 기록. maxAttempts에 도달하면 FAILED, 아니면 retryAt에 다시 시도 */
+  public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+    this.attempts++;
+    this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+    this.leaseOwner = null;
+    if (this.attempts >= maxAttempts) {
+      this.status = SmsOutboxStatus.FAILED;
+    } else {
+      this.nextAttemptAt = retryAt;
+    }
+  }
+}
@@ -0,0 +1,10 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.entity;
+
+public enum SmsOutboxStatus {
+  PENDING, // 발송 대기 (재시도 대기 포함)
+  SENT, // 발송 완료
+  FAILED // 최대 재시도 초과
+}
@@ -0,0 +1,9 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.event;
+
+import java.util.List;
+
+/** 결제 보고 멱등성 키 선점 이벤트. 트랜잭션이 롤백되면 선점을 풀어 재시도가 다시 처리되게 한다. */
+public record PaymentReportClaimedEvent(List<String> keys) {}
@@ -0,0 +1,15 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.event;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 보고 처리 완료 이벤트. 커밋 이후 멱등성 키에 결과를 기록한다.
+ *
+ * @param completed 멱등성 키 → 결제 ID (새로 저장했거나 이미 있던 결제)
+ * @param released 선점했지만 저장하지 않은 키 (TL 패킷 파싱 실패 등)
+ */
+public record PaymentReportSettledEvent(Map<String, Long> completed, List<String> released) {}
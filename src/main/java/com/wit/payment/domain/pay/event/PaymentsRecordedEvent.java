@@ -0,0 +1,53 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.event;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.wit.payment.domain.pay.entity.Payment;
+import com.wit.payment.domain.pay.entity.PaymentItem;
+
+/**
+ * 결제 저장 이벤트. 커밋 이후 매출 집계 등에서 사용한다.
+ *
+ * <p>리스너가 DB를 다시 읽지 않도록 집계에 필요한 값만 복사해 담는다.
+ */
+public record PaymentsRecordedEvent(List<RecordedPayment> payments) {
+
+  /**
+   * @param paymentIds payments와 같은 순서의 payment_id (JDBC 일괄 저장은 엔티티 id를 채우지 않음)
+   */
+  public static PaymentsRecordedEvent of(List<Payment> payments, List<Long> paymentIds) {
+    List<RecordedPayment> recorded = new ArrayList<>(payments.size());
+    for (int i = 0; i < payments.size(); i++) {
+      recorded.add(RecordedPayment.of(paymentIds.get(i), payments.get(i)));
+    }
+    return new PaymentsRecordedEvent(List.copyOf(recorded));
+  }
+
+  public record RecordedPayment(
+      Long paymentId,
+      LocalDate approvedDate,
+      String terminalId,
+      Long kioskId,
+      int amount,
+      int vatAmount,
+      int svcAmount,
+      List<Long> productIds) {
+
+    static RecordedPayment of(Long paymentId, Payment payment) {
+      return new RecordedPayment(
+          paymentId,
+          payment.getOrgApprovedDate(),
+          payment.getTerminalId(),
+          payment.getKioskId(),
+          payment.getAmount(),
+          payment.getVatAmount(),
+          payment.getSvcAmount(),
+          payment.getItems().stream().map(PaymentItem::getProductId).distinct().toList());
+    }
+  }
+}
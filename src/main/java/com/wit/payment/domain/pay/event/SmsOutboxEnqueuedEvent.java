@@ -0,0 +1,7 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.event;
+
+/** SMS outbox 적재 이벤트. 커밋 이후 발송 워커를 바로 깨우는 용도 (폴링 주기를 기다리지 않음) */
+public record SmsOutboxEnqueuedEvent(int count) {}
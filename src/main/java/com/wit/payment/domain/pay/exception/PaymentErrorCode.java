@@ -19,6 +19,11 @@ public enum PaymentErrorCode implements BaseErrorCode {
 
   PRODUCT_STATUS_INVALID("PAY_4001", "결제할 수 없는 상품 상태입니다.", HttpStatus.BAD_REQUEST),
   EMPTY_ITEMS("PAY_4002", "빈 상품으로 결제를 요청했습니다.", HttpStatus.BAD_REQUEST),
+  INVALID_CURSOR("PAY_4003", "유효하지 않은 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
+  INVALID_DATE_RANGE("PAY_4004", "조회 시작일이 종료일보다 늦습니다.", HttpStatus.BAD_REQUEST),
+
+  PAYMENT_REPORT_IN_PROGRESS(
+      "PAY_4091", "같은 결제 보고를 처리 중입니다. 잠시 후 다시 시도해 주세요.", HttpStatus.CONFLICT),
   ;
 
   private final String code;
@@ -9,6 +9,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
@@ -22,19 +23,15 @@ import com.wit.payment.domain.pay.entity.Payment;
 import com.wit.payment.domain.pay.entity.PaymentIssue;
 import com.wit.payment.domain.pay.entity.PaymentIssueStatus;
 import com.wit.payment.domain.pay.entity.PaymentItem;
-import com.wit.payment.domain.product.entity.Product;
-import com.wit.payment.domain.product.repository.ProductRepository;
+import com.wit.payment.domain.pay.repository.PaymentSummaryRow;
+import com.wit.payment.domain.product.repository.ProductThumbnailRow;
 import com.wit.payment.global.tl3800.parser.TL3800ApprovalInfo;
+import com.wit.payment.global.tl3800.parser.TL3800ApprovalView;
 import com.wit.payment.global.tl3800.proto.TLPacket;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class PaymentMapper {
 
-  private final ProductRepository productRepository;
-
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
   private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
 
@@ -122,6 +119,19 @@ public class PaymentMapper {
         .build();
   }
 
+  /** 목록 프로젝션 -> 결제 내역 요약 응답 DTO */
+  public PaymentSummaryResponse toPaymentResponse(PaymentSummaryRow row) {
+    return PaymentSummaryResponse.builder()
+        .paymentId(row.paymentId())
+        .approvedDate(row.approvedDate())
+        .approvedTime(row.approvedTime())
+        .approvalNo(row.approvalNo())
+        .amount(row.amount())
+        .installment(row.installment())
+        .phoneNumber(row.phoneNumber())
+        .build();
+  }
+
   public PaymentIssueResponse toIssueResponse(PaymentIssue issue) {
     return PaymentIssueResponse.builder()
         .paymentIssueId(issue.getId())
@@ -133,13 +143,6 @@ public class PaymentMapper {
         .build();
   }
 
-  public List<PaymentSummaryResponse> toPaymentResponseList(List<Payment> payments) {
-    if (payments == null) {
-      return List.of();
-    }
-    return payments.stream().map(this::toPaymentResponse).toList();
-  }
-
   public List<PaymentIssueResponse> toIssueResponseList(List<PaymentIssue> issues) {
     if (issues == null) {
       return List.of();
@@ -147,34 +150,35 @@ public class PaymentMapper {
     return issues.stream().map(this::toIssueResponse).toList();
   }
 
-  /** PaymentItem -> DTO */
-  public PaymentItemSummaryResponse toPaymentItemSummaryResponse(PaymentItem item) {
-
-    // 1. 상품 조회
-    Product product =
-        productRepository
-            .findById(item.getProductId())
-            .orElseThrow(
-                () ->
-                    new IllegalStateException("Product not found for id: " + item.getProductId()));
+  /**
+   * PaymentItem -> DTO
+   *
+   * @param products productId별 상품명/대표 이미지 (미리 일괄 조회한 것)
+   */
+  public PaymentItemSummaryResponse toPaymentItemSummaryResponse(
+      PaymentItem item, Map<Long, ProductThumbnailRow> products) {
 
-    // 2. 대표 이미지 조회 (쿼리 최적화된 방식)
-    String imageUrl = productRepository.findTopImageUrl(item.getProductId());
+    ProductThumbnailRow product = products.get(item.getProductId());
+    if (product == null) {
+      throw new IllegalStateException("Product not found for id: " + item.getProductId());
+    }
 
-    // 3. DTO 변환
     return PaymentItemSummaryResponse.builder()
         .productId(item.getProductId())
-        .productName(product.getName())
-        .imageUrl(imageUrl)
+        .productName(product.name())
+        .imageUrl(product.imageUrl())
         .optionText(item.getOptionText())
         .build();
   }
 
   /** Payment + Items -> Response DTO */
-  public PaymentWithItemsResponse toPaymentWithItemsResponse(Payment payment) {
+  public PaymentWithItemsResponse toPaymentWithItemsResponse(
+      Payment payment, Map<Long, ProductThumbnailRow> products) {
 
     List<PaymentItemSummaryResponse> itemResponses =
-        payment.getItems().stream().map(this::toPaymentItemSummaryResponse).toList();
+        payment.getItems().stream()
+            .map(item -> toPaymentItemSummaryResponse(item, products))
+            .toList();
 
     String deliveryAddress = null;
     if (payment.getDeliveryDetail() != null) {
@@ -191,16 +195,17 @@ public class PaymentMapper {
         .build();
   }
 
-  public List<PaymentWithItemsResponse> toPaymentWithItemsResponseList(List<Payment> payments) {
-    return payments.stream().map(this::toPaymentWithItemsResponse).toList();
+  public List<PaymentWithItemsResponse> toPaymentWithItemsResponseList(
+      List<Payment> payments, Map<Long, ProductThumbnailRow> products) {
+    return payments.stream().map(p -> toPaymentWithItemsResponse(p, products)).toList();
   }
 
   /**
-   * 로컬 에이전트 → 중앙 서버 성공 보고 DTO + TL 파싱 결과 → Payment 엔티티 변환
+   * 로컬 에이전트 → 중앙 서버 성공 보고 DTO + TL 승인 응답 뷰 → Payment 엔티티 변환
    *
-   * <p>이 메서드가 이제 "정식" 경로.
+   * <p>이 메서드가 이제 "정식" 경로. 뷰에서 실제로 저장하는 필드만 읽어 String을 만든다.
    */
-  public Payment toPayment(PaySuccessReportRequest report, TL3800ApprovalInfo info) {
+  public Payment toPayment(PaySuccessReportRequest report, TL3800ApprovalView view) {
 
     PayRequest req = report.payRequest();
 
@@ -210,27 +215,28 @@ public class PaymentMapper {
             .phoneNumber(req.phoneNumber())
             .imageUrl(req.imageUrl())
             .delivery(req.delivery())
+            .kioskId(req.kioskId())
             // 금액 정보 (TL 기준 실제 승인금액)
-            .amount(info.approvedAmount())
-            .vatAmount(info.vatAmount())
-            .svcAmount(info.svcAmount())
-            .installment(info.installment())
+            .amount(view.approvedAmount())
+            .vatAmount(view.vatAmount())
+            .svcAmount(view.svcAmount())
+            .installment(view.installment())
             // 승인/매출 시각(원거래일자/시간)
-            .orgApprovedDate(info.approvedDate())
-            .orgApprovedTime(info.approvedTime())
+            .orgApprovedDate(view.approvedDate())
+            .orgApprovedTime(view.approvedTime())
             // 승인번호
-            .approvalNoRaw(info.approvalNoRaw())
-            .approvalNo(info.approvalNo())
+            .approvalNoRaw(view.approvalNoRaw())
+            .approvalNo(view.approvalNo())
             // VAN 거래 식별 정보
-            .vanTransactionNo(info.vanTransactionId())
-            .terminalNo(info.terminalNo())
-            .terminalId(info.terminalId())
-            .terminalSequenceNo(info.terminalSeqNo())
+            .vanTransactionNo(view.vanTransactionId())
+            .terminalNo(view.terminalNo())
+            .terminalId(view.terminalId())
+            .terminalSequenceNo(view.terminalSeqNo())
             // 거래 속성
-            .tranTypeCode(info.tranTypeCode())
-            .mediaType(info.mediaType())
+            .tranTypeCode(view.tranTypeCode())
+            .mediaType(view.mediaType())
             // 부가정보
-            .vanExtraRaw(info.vanExtraRaw());
+            .vanExtraRaw(view.vanExtraRaw());
 
     Payment payment = builder.build();
 
@@ -0,0 +1,8 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.repository;
+
+/** 승인 건 식별 정보 (결제 보고 중복 확인용 프로젝션) */
+public record PaymentApprovalRow(
+    Long id, String terminalId, String vanTransactionNo, String approvalNo) {}
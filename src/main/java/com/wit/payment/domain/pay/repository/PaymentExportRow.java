@@ -0,0 +1,23 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/** 정산 대사용 결제 내보내기 프로젝션 (영속성 컨텍스트에 쌓이지 않음) */
+public record PaymentExportRow(
+    Long paymentId,
+    LocalDate approvedDate,
+    LocalTime approvedTime,
+    String approvalNo,
+    String vanTransactionNo,
+    String terminalId,
+    String terminalNo,
+    Integer amount,
+    Integer vatAmount,
+    Integer svcAmount,
+    String installment,
+    String tranTypeCode,
+    String mediaType) {}
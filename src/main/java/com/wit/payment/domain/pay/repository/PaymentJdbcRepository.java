@@ -0,0 +1,142 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.wit.payment.domain.pay.entity.Payment;
+import com.wit.payment.domain.pay.entity.PaymentItem;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 대량 저장용 JDBC 저장소.
+ *
+ * <p>IDENTITY 키 때문에 Hibernate는 insert를 배치로 묶지 못하므로, payments/payment_items를 multi-row INSERT로 직접 저장한다. 호출
+ * 측 트랜잭션(JpaTransactionManager)의 커넥션을 그대로 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentJdbcRepository {
+
+  /** INSERT 1회에 묶는 최대 행 수 */
+  private static final int CHUNK_SIZE = 100;
+
+  private static final String PAYMENT_COLUMNS =
+      "phone_number, image_url, delivery, kiosk_id, amount, vat_amount, svc_amount, installment,"
+          + " org_approved_date, org_approved_time, approval_no_raw, approval_no,"
+          + " van_transaction_no, terminal_no, terminal_id, terminal_seq_no, tran_type_code,"
+          + " media_type, van_extra_raw, rolled_up, created_at, updated_at";
+  private static final int PAYMENT_PARAMS = 22;
+
+  private static final String ITEM_COLUMNS = "payment_id, product_id, option_text";
+  private static final int ITEM_PARAMS = 3;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Payment와 items를 저장하고, 입력 순서대로 생성된 payment_id 목록을 반환한다. (Payment 엔티티의 id는 채워지지 않음)
+   *
+   * @throws IllegalStateException 생성된 키 개수가 저장 건수와 다른 경우
+   */
+  public List<Long> insertAll(List<Payment> payments) {
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> ids = new ArrayList<>(payments.size());
+
+    for (int from = 0; from < payments.size(); from += CHUNK_SIZE) {
+      List<Payment> chunk = payments.subList(from, Math.min(from + CHUNK_SIZE, payments.size()));
+      ids.addAll(insertPayments(chunk, now));
+    }
+
+    List<Object[]> itemRows = new ArrayList<>();
+    for (int i = 0; i < payments.size(); i++) {
+      for (PaymentItem item : payments.get(i).getItems()) {
+        itemRows.add(new Object[] {ids.get(i), item.getProductId(), item.getOptionText()});
+      }
+    }
+    for (int from = 0; from < itemRows.size(); from += CHUNK_SIZE) {
+      List<Object[]> chunk = itemRows.subList(from, Math.min(from + CHUNK_SIZE, itemRows.size()));
+      jdbcTemplate.update(
+          multiRowInsert("payment_items", ITEM_COLUMNS, ITEM_PARAMS, chunk.size()),
+          chunk.stream().flatMap(Arrays::stream).toArray());
+    }
+
+    return ids;
+  }
+
+  private List<Long> insertPayments(List<Payment> chunk, LocalDateTime now) {
+    String sql = multiRowInsert("payments", PAYMENT_COLUMNS, PAYMENT_PARAMS, chunk.size());
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+
+    jdbcTemplate.update(
+        con -> {
+          PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+          int p = 1;
+          for (Payment payment : chunk) {
+            ps.setString(p++, payment.getPhoneNumber());
+            ps.setString(p++, payment.getImageUrl());
+            ps.setBoolean(p++, payment.isDelivery());
+            ps.setObject(p++, payment.getKioskId(), Types.BIGINT);
+            ps.setInt(p++, payment.getAmount());
+            ps.setInt(p++, payment.getVatAmount());
+            ps.setInt(p++, payment.getSvcAmount());
+            ps.setString(p++, payment.getInstallment());
+            ps.setObject(p++, payment.getOrgApprovedDate());
+            ps.setObject(p++, payment.getOrgApprovedTime());
+            ps.setString(p++, payment.getApprovalNoRaw());
+            ps.setString(p++, payment.getApprovalNo());
+            ps.setString(p++, payment.getVanTransactionNo());
+            ps.setString(p++, payment.getTerminalNo());
+            ps.setString(p++, payment.getTerminalId());
+            ps.setString(p++, payment.getTerminalSequenceNo());
+            ps.setString(p++, payment.getTranTypeCode());
+            ps.setString(p++, payment.getMediaType());
+            ps.setString(p++, payment.getVanExtraRaw());
+            ps.setBoolean(p++, payment.isRolledUp());
+            ps.setObject(p++, now);
+            ps.setObject(p++, now);
+          }
+          return ps;
+        },
+        keyHolder);
+
+    List<Map<String, Object>> keys = keyHolder.getKeyList();
+    if (keys.size() != chunk.size()) {
+      throw new IllegalStateException(
+          "generated key count mismatch: expected=" + chunk.size() + ", actual=" + keys.size());
+    }
+    return keys.stream().map(k -> ((Number) k.values().iterator().next()).longValue()).toList();
+  }
+
+  /** INSERT INTO table (columns) VALUES (?, ...), (?, ...) ... */
+  private static String multiRowInsert(String table, String columns, int params, int rows) {
+    String row = "(" + "?, ".repeat(params - 1) + "?)";
+    StringBuilder sql =
+        new StringBuilder(64 + columns.length() + rows * (row.length() + 2))
+            .append("INSERT INTO ")
+            .append(table)
+            .append(" (")
+            .append(columns)
+            .append(") VALUES ");
+    for (int i = 0; i < rows; i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(row);
+    }
+    return sql.toString();
+  }
+}
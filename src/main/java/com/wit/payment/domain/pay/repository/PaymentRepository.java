@@ -3,22 +3,105 @@
  */
 package com.wit.payment.domain.pay.repository;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.wit.payment.domain.pay.entity.Payment;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
-  // 승인(매출)일시 기준 전체 조회
-  List<Payment> findAllByOrderByOrgApprovedDateDescOrgApprovedTimeDesc();
+  // 결제 내역 첫 페이지 (승인일시 최신순, 기간/단말 필터는 null이면 미적용)
+  @Query(
+      "select new com.wit.payment.domain.pay.repository.PaymentSummaryRow("
+          + " p.id, p.orgApprovedDate, p.orgApprovedTime, p.approvalNo, p.amount,"
+          + " p.installment, p.phoneNumber)"
+          + " from Payment p"
+          + " where (:from is null or p.orgApprovedDate >= :from)"
+          + " and (:to is null or p.orgApprovedDate <= :to)"
+          + " and (:terminalId is null or p.terminalId = :terminalId)"
+          + " order by p.orgApprovedDate desc, p.orgApprovedTime desc, p.id desc")
+  List<PaymentSummaryRow> findSummaries(
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to,
+      @Param("terminalId") String terminalId,
+      Limit limit);
+
+  // 결제 내역 다음 페이지 (커서 이후, keyset)
+  @Query(
+      "select new com.wit.payment.domain.pay.repository.PaymentSummaryRow("
+          + " p.id, p.orgApprovedDate, p.orgApprovedTime, p.approvalNo, p.amount,"
+          + " p.installment, p.phoneNumber)"
+          + " from Payment p"
+          + " where (:from is null or p.orgApprovedDate >= :from)"
+          + " and (:to is null or p.orgApprovedDate <= :to)"
+          + " and (:terminalId is null or p.terminalId = :terminalId)"
+          + " and p.orgApprovedDate <= :cursorDate"
+          + " and (p.orgApprovedDate < :cursorDate"
+          + " or p.orgApprovedTime < :cursorTime"
+          + " or (p.orgApprovedTime = :cursorTime and p.id < :cursorId))"
+          + " order by p.orgApprovedDate desc, p.orgApprovedTime desc, p.id desc")
+  List<PaymentSummaryRow> findSummariesAfter(
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to,
+      @Param("terminalId") String terminalId,
+      @Param("cursorDate") LocalDate cursorDate,
+      @Param("cursorTime") LocalTime cursorTime,
+      @Param("cursorId") Long cursorId,
+      Limit limit);
 
-  // 전화번호 + 승인(매출)일시 기준 조회
-  List<Payment> findByPhoneNumberOrderByOrgApprovedDateDescOrgApprovedTimeDesc(String phoneNumber);
+  // 전화번호 기준 구매 이력 (items + 배송 정보를 한 번에 로딩)
+  @Query(
+      "select distinct p from Payment p"
+          + " left join fetch p.items"
+          + " left join fetch p.deliveryDetail"
+          + " where p.phoneNumber = :phoneNumber"
+          + " order by p.orgApprovedDate desc, p.orgApprovedTime desc, p.id desc")
+  List<Payment> findWithItemsAndDeliveryByPhoneNumber(@Param("phoneNumber") String phoneNumber);
 
   // 전화번호 기준 가장 최근 승인 건
   Optional<Payment> findTopByPhoneNumberOrderByOrgApprovedDateDescOrgApprovedTimeDesc(
       String phoneNumber);
+
+  // 정산 대사용 내보내기 (승인일시 오름차순). fetch size = Integer.MIN_VALUE 는 MySQL 드라이버의
+  // 행 단위 스트리밍 모드로, 결과셋 전체를 메모리에 올리지 않는다. 트랜잭션 안에서 사용 후 반드시 close.
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query(
+      "select new com.wit.payment.domain.pay.repository.PaymentExportRow("
+          + " p.id, p.orgApprovedDate, p.orgApprovedTime, p.approvalNo, p.vanTransactionNo,"
+          + " p.terminalId, p.terminalNo, p.amount, p.vatAmount, p.svcAmount, p.installment,"
+          + " p.tranTypeCode, p.mediaType)"
+          + " from Payment p"
+          + " where (:from is null or p.orgApprovedDate >= :from)"
+          + " and (:to is null or p.orgApprovedDate <= :to)"
+          + " and (:terminalId is null or p.terminalId = :terminalId)"
+          + " order by p.orgApprovedDate asc, p.orgApprovedTime asc, p.id asc")
+  Stream<PaymentExportRow> streamForExport(
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to,
+      @Param("terminalId") String terminalId);
+
+  // 거래고유번호로 기존 승인 건 조회 (결제 보고 중복 확인, uk_payments_approval 선두 컬럼)
+  @Query(
+      "select new com.wit.payment.domain.pay.repository.PaymentApprovalRow("
+          + " p.id, p.terminalId, p.vanTransactionNo, p.approvalNo)"
+          + " from Payment p"
+          + " where p.vanTransactionNo in :vanTransactionNos")
+  List<PaymentApprovalRow> findApprovalsByVanTransactionNoIn(
+      @Param("vanTransactionNos") Collection<String> vanTransactionNos);
 }
@@ -0,0 +1,17 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/** 결제 내역 목록용 프로젝션 (엔티티/연관관계를 로딩하지 않음) */
+public record PaymentSummaryRow(
+    Long paymentId,
+    LocalDate approvedDate,
+    LocalTime approvedTime,
+    String approvalNo,
+    Integer amount,
+    String installment,
+    String phoneNumber) {}
@@ -0,0 +1,41 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.wit.payment.domain.pay.entity.SmsOutbox;
+
+public interface SmsOutboxRepository extends JpaRepository<SmsOutbox, Long> {
+
+  // 발송 시각이 된 대기 건을 잠금 (다른 워커/인스턴스가 잡고 있는 행은 건너뜀)
+  @Query(
+      value =
+          "SELECT * FROM sms_outbox"
+              + " WHERE status = 'PENDING' AND next_attempt_at <= :now"
+              + " ORDER BY sms_outbox_id"
+              + " LIMIT :limit"
+              + " FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<SmsOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  // 임대가 아직 유효한 발송 중 건을 잠금 (만료됐거나 다른 워커가 다시 가져갔으면 빈 값)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      "SELECT o FROM SmsOutbox o"
+          + " WHERE o.id = :id"
+          + " AND o.status = com.wit.payment.domain.pay.entity.SmsOutboxStatus.PENDING"
+          + " AND o.leaseOwner = :owner AND o.nextAttemptAt > :now")
+  Optional<SmsOutbox> findLeasedForUpdate(
+      @Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -5,19 +5,48 @@ package com.wit.payment.domain.pay.service;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.wit.payment.domain.kiosk.service.KioskMetricTags;
 import com.wit.payment.domain.pay.dto.request.PayFailureReportRequest;
+import com.wit.payment.domain.pay.dto.request.PaySuccessBatchReportRequest;
 import com.wit.payment.domain.pay.dto.request.PaySuccessReportRequest;
+import com.wit.payment.domain.pay.dto.response.PayBatchItemResponse;
+import com.wit.payment.domain.pay.dto.response.PayBatchReportResponse;
+import com.wit.payment.domain.pay.dto.response.PayReportResponse;
 import com.wit.payment.domain.pay.entity.Payment;
 import com.wit.payment.domain.pay.entity.PaymentIssue;
+import com.wit.payment.domain.pay.event.PaymentReportClaimedEvent;
+import com.wit.payment.domain.pay.event.PaymentReportSettledEvent;
+import com.wit.payment.domain.pay.event.PaymentsRecordedEvent;
+import com.wit.payment.domain.pay.exception.PaymentErrorCode;
 import com.wit.payment.domain.pay.mapper.PaymentMapper;
+import com.wit.payment.domain.pay.repository.PaymentApprovalRow;
 import com.wit.payment.domain.pay.repository.PaymentIssueRepository;
+import com.wit.payment.domain.pay.repository.PaymentJdbcRepository;
 import com.wit.payment.domain.pay.repository.PaymentRepository;
-import com.wit.payment.global.tl3800.parser.TL3800ApprovalInfo;
+import com.wit.payment.domain.pay.service.PaymentReportIdempotency.Claim;
+import com.wit.payment.domain.pay.service.PaymentReportIdempotency.Status;
+import com.wit.payment.global.exception.CustomException;
+import com.wit.payment.global.tl3800.parser.TL3800ApprovalView;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,12 +57,39 @@ import lombok.extern.slf4j.Slf4j;
 public class PayReportService {
 
   private final PaymentRepository paymentRepository;
+  private final PaymentJdbcRepository paymentJdbcRepository;
   private final PaymentIssueRepository paymentIssueRepository;
-  private final SmsService smsService;
+  private final SmsOutboxService smsOutboxService;
+  private final PaymentReportIdempotency reportIdempotency;
   private final PaymentMapper paymentMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
+  private final KioskMetricTags kioskMetricTags;
 
+  /**
+   * 결제 성공 보고. 재전송된 보고는 파싱/저장/SMS 적재 없이 기존 결제 ID를 돌려준다.
+   *
+   * @throws CustomException 같은 보고를 다른 요청이 처리 중 (PAYMENT_REPORT_IN_PROGRESS)
+   */
   @Transactional
-  public void reportSuccess(PaySuccessReportRequest request) {
+  public PayReportResponse reportSuccess(PaySuccessReportRequest request) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      PayReportResponse response = processSuccess(request);
+      outcome = response.duplicate() ? "duplicate" : "saved";
+      return response;
+    } catch (CustomException e) {
+      if (e.getErrorCode() == PaymentErrorCode.PAYMENT_REPORT_IN_PROGRESS) {
+        outcome = "in_progress";
+      }
+      throw e;
+    } finally {
+      recordReport(sample, "success", outcome, request.payRequest().kioskId());
+    }
+  }
+
+  private PayReportResponse processSuccess(PaySuccessReportRequest request) {
 
     log.info(
         "[REPORT] 로컬 결제 성공 보고 수신 - phone={}, amount={}, items={}",
@@ -41,27 +97,311 @@ public class PayReportService {
         request.approvedAmount(),
         request.payRequest().items());
 
-    // 1. TL 패킷 파싱
-    TL3800ApprovalInfo tlInfo = TL3800ApprovalInfo.fromHex(request.tlPacketHex());
+    // 1. 재전송 확인 (TL 패킷 원문 기준)
+    String key = reportIdempotency.keyOf(request.tlPacketHex());
+    Claim claim = reportIdempotency.claim(key);
+    if (claim.status() == Status.IN_PROGRESS) {
+      throw new CustomException(PaymentErrorCode.PAYMENT_REPORT_IN_PROGRESS);
+    }
+    if (claim.status() == Status.COMPLETED) {
+      log.info("[REPORT] 중복 결제 보고 - paymentId={}", claim.paymentId());
+      return new PayReportResponse(claim.paymentId(), true);
+    }
+    eventPublisher.publishEvent(new PaymentReportClaimedEvent(List.of(key)));
+
+    // 2. TL 패킷 검증 (필드는 복사하지 않고 뷰로 읽음)
+    TL3800ApprovalView tlView = TL3800ApprovalView.fromHex(request.tlPacketHex());
 
-    // 2. Payment 엔티티 생성
-    Payment payment = paymentMapper.toPayment(request, tlInfo);
+    // 3. Payment 엔티티 생성
+    Payment payment = paymentMapper.toPayment(request, tlView);
 
-    // 3. 저장
-    Payment saved = paymentRepository.save(payment);
+    // 4. Redis 키가 만료된 뒤의 재전송은 승인 건 기준으로 확인
+    Long existingId = findExistingIds(List.of(payment)).get(ApprovalKey.of(payment));
+    if (existingId != null) {
+      log.info("[REPORT] 중복 결제 보고 (저장된 승인 건) - paymentId={}", existingId);
+      eventPublisher.publishEvent(
+          new PaymentReportSettledEvent(Map.of(key, existingId), List.of()));
+      return new PayReportResponse(existingId, true);
+    }
 
-    // 4. sms 전송
-    smsService.sendTestMessage(request.payRequest().phoneNumber());
+    // 5. 저장
+    Payment saved;
+    try {
+      saved = paymentRepository.save(payment);
+    } catch (DataIntegrityViolationException e) {
+      // 같은 승인 건을 다른 요청이 방금 저장함 (uk_payments_approval), 그 밖의 제약 위반은 그대로 던진다
+      throw approvalConflictOrRethrow(e);
+    }
+
+    // 6. sms 발송 적재 (커밋 이후 워커가 발송)
+    smsOutboxService.enqueue(saved.getId(), request.payRequest().phoneNumber());
+
+    // 7. 매출 집계, 멱등성 키 기록 (커밋 이후 반영)
+    eventPublisher.publishEvent(
+        PaymentsRecordedEvent.of(List.of(saved), List.of(saved.getId())));
+    eventPublisher.publishEvent(
+        new PaymentReportSettledEvent(Map.of(key, saved.getId()), List.of()));
 
     log.info(
         "[REPORT] 결제 저장 완료 - paymentId={}, approvalNo={}, vanTxNo={}",
         saved.getId(),
         saved.getApprovalNo(),
         saved.getVanTransactionNo());
+    return new PayReportResponse(saved.getId(), false);
+  }
+
+  /**
+   * 결제 성공 일괄 보고 (네트워크 장애 후 밀린 보고 전송 등).
+   *
+   * <p>이미 저장된 보고(재전송)와 요청 안의 중복은 기존/첫 건의 결제 ID로 응답하고 다시 저장하지 않는다. TL 프레임 검증/파싱은 요청 스레드에서
+   * 순서대로 수행하고(최대 500건, 공용 ForkJoinPool을 쓰지 않음), 파싱에 성공한 새 건만 한 트랜잭션에서 multi-row INSERT로 저장한다. 파싱
+   * 실패 건은 저장하지 않고 건별 결과에 사유를 담는다.
+   *
+   * @throws CustomException 같은 승인 건을 다른 요청이 동시에 저장함 (PAYMENT_REPORT_IN_PROGRESS)
+   */
+  @Transactional
+  public PayBatchReportResponse reportSuccessBatch(PaySuccessBatchReportRequest request) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      PayBatchReportResponse response = processSuccessBatch(request);
+      outcome = "completed";
+      meterRegistry
+          .counter("pay.report.batch.items", "result", "saved")
+          .increment(response.succeeded() - response.duplicated());
+      meterRegistry
+          .counter("pay.report.batch.items", "result", "duplicate")
+          .increment(response.duplicated());
+      meterRegistry
+          .counter("pay.report.batch.items", "result", "failed")
+          .increment(response.failed());
+      return response;
+    } catch (CustomException e) {
+      if (e.getErrorCode() == PaymentErrorCode.PAYMENT_REPORT_IN_PROGRESS) {
+        outcome = "in_progress";
+      }
+      throw e;
+    } finally {
+      // 건마다 키오스크가 다를 수 있어 kiosk 태그는 none
+      recordReport(sample, "batch", outcome, null);
+    }
+  }
+
+  private PayBatchReportResponse processSuccessBatch(PaySuccessBatchReportRequest request) {
+    List<PaySuccessReportRequest> reports = request.reports();
+    PayBatchItemResponse[] results = new PayBatchItemResponse[reports.size()];
+
+    log.info("[REPORT] 로컬 결제 성공 일괄 보고 수신 - count={}", reports.size());
+
+    // 1. 재전송 확인 (요청 안에서 같은 패킷은 첫 건만 확인, sameAs = 결과를 따를 첫 건 순번)
+    List<String> keys =
+        reports.stream().map(r -> reportIdempotency.keyOf(r.tlPacketHex())).toList();
+    int[] sameAs = new int[reports.size()];
+    Arrays.fill(sameAs, -1);
+    Map<String, Integer> firstByKey = new HashMap<>();
+    List<Integer> firsts = new ArrayList<>();
+    for (int i = 0; i < reports.size(); i++) {
+      Integer first = firstByKey.putIfAbsent(keys.get(i), i);
+      if (first == null) {
+        firsts.add(i);
+      } else {
+        sameAs[i] = first;
+      }
+    }
+
+    List<Claim> claims = reportIdempotency.claimAll(firsts.stream().map(keys::get).toList());
+    List<Integer> toParse = new ArrayList<>();
+    Set<String> claimedKeys = new HashSet<>();
+    for (int j = 0; j < firsts.size(); j++) {
+      int index = firsts.get(j);
+      Claim claim = claims.get(j);
+      switch (claim.status()) {
+        case COMPLETED -> results[index] = PayBatchItemResponse.duplicate(index, claim.paymentId());
+        case IN_PROGRESS ->
+            results[index] =
+                PayBatchItemResponse.failed(
+                    index, PaymentErrorCode.PAYMENT_REPORT_IN_PROGRESS.getMessage());
+        case ACQUIRED -> {
+          toParse.add(index);
+          claimedKeys.add(keys.get(index));
+        }
+      }
+    }
+    eventPublisher.publishEvent(new PaymentReportClaimedEvent(List.copyOf(claimedKeys)));
+
+    // 2. TL 패킷 파싱 → Payment 엔티티 (요청 순서 유지)
+    List<ParsedReport> parsed = toParse.stream().map(i -> parse(i, reports.get(i))).toList();
+
+    // 3. 저장된 승인 건/요청 안의 같은 승인 건 확인
+    Map<ApprovalKey, Long> existingIds =
+        findExistingIds(
+            parsed.stream().map(ParsedReport::payment).filter(Objects::nonNull).toList());
+    Map<ApprovalKey, Integer> firstByApproval = new HashMap<>();
+    Map<String, Long> completed = new HashMap<>();
+    List<String> released = new ArrayList<>();
+    List<ParsedReport> valid = new ArrayList<>();
+    for (ParsedReport r : parsed) {
+      if (r.payment() == null) {
+        results[r.index()] = PayBatchItemResponse.failed(r.index(), r.error());
+        released.add(keys.get(r.index()));
+        continue;
+      }
+      ApprovalKey approval = ApprovalKey.of(r.payment());
+      Long existingId = existingIds.get(approval);
+      if (existingId != null) {
+        results[r.index()] = PayBatchItemResponse.duplicate(r.index(), existingId);
+        completed.put(keys.get(r.index()), existingId);
+        continue;
+      }
+      Integer first = firstByApproval.putIfAbsent(approval, r.index());
+      if (first != null) {
+        sameAs[r.index()] = first;
+        continue;
+      }
+      valid.add(r);
+    }
+
+    // 4. 일괄 저장 (payments + payment_items)
+    List<Payment> payments = valid.stream().map(ParsedReport::payment).toList();
+    List<Long> ids;
+    try {
+      ids = paymentJdbcRepository.insertAll(payments);
+    } catch (DataIntegrityViolationException e) {
+      // 같은 승인 건을 다른 요청이 방금 저장함 (uk_payments_approval) - 롤백 후 재시도하면 중복으로 처리된다
+      throw approvalConflictOrRethrow(e);
+    }
+    for (int i = 0; i < valid.size(); i++) {
+      int index = valid.get(i).index();
+      results[index] = PayBatchItemResponse.saved(index, ids.get(i));
+      completed.put(keys.get(index), ids.get(i));
+    }
+
+    // 5. 요청 안의 중복은 첫 건 결과를 따른다 (첫 건이 항상 앞 순번)
+    for (int i = 0; i < reports.size(); i++) {
+      if (sameAs[i] < 0) {
+        continue;
+      }
+      PayBatchItemResponse first = results[sameAs[i]];
+      boolean claimed = claimedKeys.contains(keys.get(i));
+      if (first.paymentId() != null) {
+        results[i] = PayBatchItemResponse.duplicate(i, first.paymentId());
+        if (claimed) {
+          completed.put(keys.get(i), first.paymentId());
+        }
+      } else {
+        results[i] = PayBatchItemResponse.failed(i, first.message());
+        if (claimed && !completed.containsKey(keys.get(i))) {
+          released.add(keys.get(i));
+        }
+      }
+    }
+
+    // 6. sms 발송 적재 (커밋 이후 워커가 발송)
+    smsOutboxService.enqueueAll(ids, payments.stream().map(Payment::getPhoneNumber).toList());
+
+    // 7. 매출 집계, 멱등성 키 기록 (커밋 이후 반영)
+    eventPublisher.publishEvent(PaymentsRecordedEvent.of(payments, ids));
+    eventPublisher.publishEvent(new PaymentReportSettledEvent(completed, released));
+
+    int succeeded = (int) Arrays.stream(results).filter(PayBatchItemResponse::success).count();
+    int duplicated = succeeded - ids.size();
+
+    log.info(
+        "[REPORT] 결제 일괄 저장 완료 - total={}, saved={}, duplicated={}, failed={}",
+        reports.size(),
+        ids.size(),
+        duplicated,
+        reports.size() - succeeded);
+
+    return PayBatchReportResponse.builder()
+        .total(reports.size())
+        .succeeded(succeeded)
+        .duplicated(duplicated)
+        .failed(reports.size() - succeeded)
+        .results(List.of(results))
+        .build();
+  }
+
+  /** 이미 저장된 승인 건의 결제 ID (쿼리 1회) */
+  private Map<ApprovalKey, Long> findExistingIds(List<Payment> payments) {
+    if (payments.isEmpty()) {
+      return Map.of();
+    }
+    Set<String> vanTransactionNos =
+        payments.stream().map(Payment::getVanTransactionNo).collect(Collectors.toSet());
+    Map<ApprovalKey, Long> ids = new HashMap<>();
+    for (PaymentApprovalRow row :
+        paymentRepository.findApprovalsByVanTransactionNoIn(vanTransactionNos)) {
+      ids.put(
+          new ApprovalKey(row.terminalId(), row.vanTransactionNo(), row.approvalNo()), row.id());
+    }
+    return ids;
+  }
+
+  /**
+   * 승인 건 유니크 제약({@link Payment#APPROVAL_UNIQUE_KEY}) 위반이면 PAYMENT_REPORT_IN_PROGRESS, 아니면 원래 예외를
+   * 돌려준다.
+   *
+   * <p>JPA 저장은 Hibernate ConstraintViolationException의 제약 이름으로, JDBC 일괄 저장은 드라이버 메시지("Duplicate
+   * entry ... for key 'payments.uk_payments_approval'")로 판단한다.
+   */
+  private static RuntimeException approvalConflictOrRethrow(DataIntegrityViolationException e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      String name =
+          t instanceof ConstraintViolationException cve ? cve.getConstraintName() : t.getMessage();
+      if (name != null && name.toLowerCase(Locale.ROOT).contains(Payment.APPROVAL_UNIQUE_KEY)) {
+        return new CustomException(PaymentErrorCode.PAYMENT_REPORT_IN_PROGRESS);
+      }
+    }
+    return e;
+  }
+
+  private ParsedReport parse(int index, PaySuccessReportRequest report) {
+    try {
+      TL3800ApprovalView tlView = TL3800ApprovalView.fromHex(report.tlPacketHex());
+      return new ParsedReport(index, paymentMapper.toPayment(report, tlView), null);
+    } catch (RuntimeException e) {
+      log.warn("[REPORT] 일괄 보고 TL 패킷 파싱 실패 - index={}, ex={}", index, e.toString());
+      return new ParsedReport(index, null, e.getMessage());
+    }
+  }
+
+  // 일괄 보고 건별 파싱 결과 (payment == null 이면 실패)
+  private record ParsedReport(int index, Payment payment, String error) {}
+
+  // 같은 승인 건 식별 (uk_payments_approval)
+  private record ApprovalKey(String terminalId, String vanTransactionNo, String approvalNo) {
+
+    static ApprovalKey of(Payment payment) {
+      return new ApprovalKey(
+          payment.getTerminalId(), payment.getVanTransactionNo(), payment.getApprovalNo());
+    }
   }
 
   @Transactional
   public void reportFailure(PayFailureReportRequest request) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      processFailure(request);
+      outcome = "saved";
+    } finally {
+      recordReport(sample, "failure", outcome, request.payRequest().kioskId());
+    }
+  }
+
+  /** 결제 보고 처리 시간 (pay.report). kiosk 태그는 등록된 키오스크만 ID로 쓴다. ({@link KioskMetricTags}) */
+  private void recordReport(Timer.Sample sample, String type, String outcome, Long kioskId) {
+    sample.stop(
+        Timer.builder("pay.report")
+            .description("결제 보고 처리 소요 시간")
+            .tag("type", type)
+            .tag("outcome", outcome)
+            .tag("kiosk", kioskMetricTags.of(kioskId))
+            .register(meterRegistry));
+  }
+
+  private void processFailure(PayFailureReportRequest request) {
 
     log.warn(
         "[REPORT] 로컬 결제 실패/예외 보고 수신 - phone={}, amount={}, reason={}, respCode={}",
@@ -76,9 +416,9 @@ public class PayReportService {
 
     if (request.tlPacketHex() != null && !request.tlPacketHex().isBlank()) {
       try {
-        TL3800ApprovalInfo tlInfo = TL3800ApprovalInfo.fromHex(request.tlPacketHex());
-        occurredDate = tlInfo.approvedDate();
-        occurredTime = tlInfo.approvedTime();
+        TL3800ApprovalView tlView = TL3800ApprovalView.fromHex(request.tlPacketHex());
+        occurredDate = tlView.approvedDate();
+        occurredTime = tlView.approvedTime();
       } catch (Exception e) {
         log.warn("[REPORT] 실패 보고 TL 패킷 파싱 실패 → now()로 대체 - ex={}", e.toString());
         occurredDate = LocalDate.now();
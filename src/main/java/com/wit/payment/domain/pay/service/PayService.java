@@ -3,10 +3,13 @@
  */
 package com.wit.payment.domain.pay.service;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,7 @@ import com.wit.payment.domain.pay.dto.request.DeliverySaveRequest;
 import com.wit.payment.domain.pay.dto.request.PaymentItemOptionRequest;
 import com.wit.payment.domain.pay.dto.request.PaymentOptionAndDeliveryRequest;
 import com.wit.payment.domain.pay.dto.response.PaymentIssueResponse;
+import com.wit.payment.domain.pay.dto.response.PaymentPageResponse;
 import com.wit.payment.domain.pay.dto.response.PaymentSummaryResponse;
 import com.wit.payment.domain.pay.dto.response.PaymentWithItemsResponse;
 import com.wit.payment.domain.pay.entity.Payment;
@@ -26,8 +30,10 @@ import com.wit.payment.domain.pay.mapper.PaymentMapper;
 import com.wit.payment.domain.pay.repository.PaymentDeliveryRepository;
 import com.wit.payment.domain.pay.repository.PaymentIssueRepository;
 import com.wit.payment.domain.pay.repository.PaymentRepository;
+import com.wit.payment.domain.pay.repository.PaymentSummaryRow;
 import com.wit.payment.domain.product.entity.Product;
 import com.wit.payment.domain.product.repository.ProductRepository;
+import com.wit.payment.domain.product.repository.ProductThumbnailRow;
 import com.wit.payment.global.exception.CustomException;
 
 import lombok.RequiredArgsConstructor;
@@ -45,14 +51,53 @@ public class PayService {
   private final PaymentIssueRepository paymentIssueRepository;
   private final PaymentMapper paymentMapper;
 
-  /** [조회] 결제 내역 전체 */
-  public List<PaymentSummaryResponse> getAllPayments() {
-    List<Payment> payments =
-        paymentRepository.findAllByOrderByOrgApprovedDateDescOrgApprovedTimeDesc();
+  /** 페이지 크기 기본값/최대값 */
+  private static final int DEFAULT_PAGE_SIZE = 50;
 
-    log.info("[PAY] 결제 내역 전체 조회 - count={}", payments.size());
+  private static final int MAX_PAGE_SIZE = 200;
 
-    return paymentMapper.toPaymentResponseList(payments);
+  /**
+   * [조회] 결제 내역 (승인일시 최신순, keyset 페이지)
+   *
+   * <p>(org_approved_date, org_approved_time, payment_id) 인덱스를 커서 위치부터 size + 1건만 읽는다. 한 건을 더 읽어 다음
+   * 페이지 존재 여부를 판단하고, count 쿼리는 실행하지 않는다.
+   *
+   * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+   * @param from 승인일자 시작 (포함, 선택)
+   * @param to 승인일자 종료 (포함, 선택)
+   * @param terminalId 단말기 ID (선택)
+   */
+  public PaymentPageResponse getPayments(
+      String cursor, Integer size, LocalDate from, LocalDate to, String terminalId) {
+    if (from != null && to != null && from.isAfter(to)) {
+      throw new CustomException(PaymentErrorCode.INVALID_DATE_RANGE);
+    }
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+    String terminal = terminalId == null || terminalId.isBlank() ? null : terminalId.trim();
+    Limit limit = Limit.of(pageSize + 1);
+
+    List<PaymentSummaryRow> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = paymentRepository.findSummaries(from, to, terminal, limit);
+    } else {
+      PaymentCursor after = PaymentCursor.decode(cursor);
+      rows =
+          paymentRepository.findSummariesAfter(
+              from, to, terminal, after.date(), after.time(), after.id(), limit);
+    }
+
+    boolean hasNext = rows.size() > pageSize;
+    if (hasNext) {
+      rows = rows.subList(0, pageSize);
+    }
+
+    log.info("[PAY] 결제 내역 조회 - size={}, count={}, hasNext={}", pageSize, rows.size(), hasNext);
+
+    return PaymentPageResponse.builder()
+        .content(rows.stream().map(paymentMapper::toPaymentResponse).toList())
+        .nextCursor(hasNext ? PaymentCursor.after(rows.getLast()).encode() : null)
+        .hasNext(hasNext)
+        .build();
   }
 
   /** [조회] 결제 이슈 내역 전체 */
@@ -265,15 +310,37 @@ public class PayService {
     }
   }
 
+  /**
+   * 전화번호 기준 구매 이력.
+   *
+   * <p>결제/상품 항목/배송 정보는 fetch join 한 번, 상품명/대표 이미지는 productId 일괄 조회 한 번으로 가져와 메모리에서 조립한다. (결제
+   * 건수와 무관하게 쿼리 2회)
+   */
   @Transactional(readOnly = true)
   public List<PaymentWithItemsResponse> getPaymentsByPhone(String phoneNumber) {
 
-    List<Payment> payments =
-        paymentRepository.findByPhoneNumberOrderByOrgApprovedDateDescOrgApprovedTimeDesc(
-            phoneNumber);
+    List<Payment> payments = paymentRepository.findWithItemsAndDeliveryByPhoneNumber(phoneNumber);
 
     log.info("[PAY] 전화번호={} 기준 결제 {}건 조회", phoneNumber, payments.size());
 
-    return paymentMapper.toPaymentWithItemsResponseList(payments);
+    if (payments.isEmpty()) {
+      return List.of();
+    }
+
+    Set<Long> productIds =
+        payments.stream()
+            .flatMap(p -> p.getItems().stream())
+            .map(PaymentItem::getProductId)
+            .collect(Collectors.toSet());
+
+    // 대표 이미지 순서가 같은 이미지가 여럿이면 첫 행만 사용
+    Map<Long, ProductThumbnailRow> products =
+        productIds.isEmpty()
+            ? Map.of()
+            : productRepository.findThumbnailsByIdIn(productIds).stream()
+                .collect(
+                    Collectors.toMap(ProductThumbnailRow::productId, r -> r, (a, b) -> a));
+
+    return paymentMapper.toPaymentWithItemsResponseList(payments, products);
   }
 }
@@ -0,0 +1,51 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.wit.payment.domain.pay.exception.PaymentErrorCode;
+import com.wit.payment.domain.pay.repository.PaymentSummaryRow;
+import com.wit.payment.global.exception.CustomException;
+
+/**
+ * 결제 내역 keyset 커서. 정렬 키 (org_approved_date, org_approved_time, payment_id)의 마지막 값을 담는다.
+ *
+ * <p>클라이언트에는 URL-safe Base64 문자열로만 노출하고 내부 형식은 약속하지 않는다.
+ */
+record PaymentCursor(LocalDate date, LocalTime time, Long id) {
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  static PaymentCursor after(PaymentSummaryRow row) {
+    return new PaymentCursor(row.approvedDate(), row.approvedTime(), row.paymentId());
+  }
+
+  String encode() {
+    String raw = date + "|" + time + "|" + id;
+    return ENCODER.encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * @throws CustomException 커서 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+   */
+  static PaymentCursor decode(String cursor) {
+    try {
+      String raw = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII);
+      String[] parts = raw.split("\\|", -1);
+      if (parts.length != 3) {
+        throw new CustomException(PaymentErrorCode.INVALID_CURSOR);
+      }
+      return new PaymentCursor(
+          LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(PaymentErrorCode.INVALID_CURSOR);
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.wit.payment.domain.pay.dto.request.PaymentExportFormat;
+import com.wit.payment.domain.pay.exception.PaymentErrorCode;
+import com.wit.payment.domain.pay.repository.PaymentExportRow;
+import com.wit.payment.domain.pay.repository.PaymentRepository;
+import com.wit.payment.global.exception.CustomException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정산 대사용 결제 내역 내보내기.
+ *
+ * <p>MySQL 스트리밍 결과셋으로 한 행씩 읽어 바로 응답 스트림에 쓰므로, 건수와 무관하게 메모리 사용량이 일정하다. 스트림이 열려 있는 동안 커넥션을 점유하므로
+ * 호출은 응답 스트리밍 스레드에서 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentExportService {
+
+  /** 이 건수마다 응답을 flush 해서 클라이언트가 바로 받게 한다. */
+  private static final int FLUSH_EVERY = 1_000;
+
+  private static final String CSV_HEADER =
+      "payment_id,approved_date,approved_time,approval_no,van_transaction_no,terminal_id,"
+          + "terminal_no,amount,vat_amount,svc_amount,installment,tran_type_code,media_type";
+
+  /** 스프레드시트가 수식으로 해석하는 첫 글자 */
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private final PaymentRepository paymentRepository;
+  private final ObjectMapper objectMapper;
+
+  /** 기간 검증 (응답 스트리밍 시작 전에 호출해서 400으로 응답할 수 있게 함) */
+  public void validateRange(LocalDate from, LocalDate to) {
+    if (from != null && to != null && from.isAfter(to)) {
+      throw new CustomException(PaymentErrorCode.INVALID_DATE_RANGE);
+    }
+  }
+
+  /**
+   * 조건에 맞는 결제 내역을 승인일시 오름차순으로 out에 쓴다. out은 닫지 않는다.
+   *
+   * @return 내보낸 건수
+   */
+  @Transactional(readOnly = true)
+  public long export(
+      OutputStream out,
+      PaymentExportFormat format,
+      LocalDate from,
+      LocalDate to,
+      String terminalId)
+      throws IOException {
+    String terminal = terminalId == null || terminalId.isBlank() ? null : terminalId.trim();
+
+    long count;
+    try (Stream<PaymentExportRow> rows = paymentRepository.streamForExport(from, to, terminal)) {
+      count =
+          switch (format) {
+            case CSV -> writeCsv(out, rows.iterator());
+            case NDJSON -> writeNdjson(out, rows.iterator());
+          };
+    }
+
+    log.info(
+        "[PAY] 결제 내역 내보내기 완료 - format={}, from={}, to={}, terminalId={}, count={}",
+        format,
+        from,
+        to,
+        terminal,
+        count);
+    return count;
+  }
+
+  private long writeCsv(OutputStream out, Iterator<PaymentExportRow> rows) throws IOException {
+    Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+    w.write('\uFEFF'); // 엑셀에서 한글/UTF-8 인식용 BOM
+    w.write(CSV_HEADER);
+    w.write("\r\n");
+
+    long count = 0;
+    while (rows.hasNext()) {
+      PaymentExportRow r = rows.next();
+      w.write(String.valueOf(r.paymentId()));
+      w.write(',');
+      w.write(String.valueOf(r.approvedDate()));
+      w.write(',');
+      w.write(String.valueOf(r.approvedTime()));
+      w.write(',');
+      csvField(w, r.approvalNo());
+      w.write(',');
+      csvField(w, r.vanTransactionNo());
+      w.write(',');
+      csvField(w, r.terminalId());
+      w.write(',');
+      csvField(w, r.terminalNo());
+      w.write(',');
+      w.write(String.valueOf(r.amount()));
+      w.write(',');
+      w.write(String.valueOf(r.vatAmount()));
+      w.write(',');
+      w.write(String.valueOf(r.svcAmount()));
+      w.write(',');
+      csvField(w, r.installment());
+      w.write(',');
+      csvField(w, r.tranTypeCode());
+      w.write(',');
+      csvField(w, r.mediaType());
+      w.write("\r\n");
+
+      if (++count % FLUSH_EVERY == 0) {
+        w.flush();
+      }
+    }
+    w.flush();
+    return count;
+  }
+
+  /**
+   * RFC 4180: 쉼표/따옴표/개행이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다. 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭,
+   * CR로 시작하는 값은 앞에 '를 붙인다. (CSV 수식 주입 방지)
+   */
+  private static void csvField(Writer w, String value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+      value = "'" + value;
+    }
+    boolean quote = false;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+    }
+    if (!quote) {
+      w.write(value);
+      return;
+    }
+    w.write('"');
+    w.write(value.replace("\"", "\"\""));
+    w.write('"');
+  }
+
+  private long writeNdjson(OutputStream out, Iterator<PaymentExportRow> rows) throws IOException {
+    long count = 0;
+    try (SequenceWriter writer =
+        objectMapper
+            .writerFor(PaymentExportRow.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .withRootValueSeparator("\n")
+            .writeValues(out)) {
+      while (rows.hasNext()) {
+        writer.write(rows.next());
+        if (++count % FLUSH_EVERY == 0) {
+          writer.flush();
+        }
+      }
+    }
+    if (count > 0) {
+      out.write('\n');
+    }
+    out.flush();
+    return count;
+  }
+}
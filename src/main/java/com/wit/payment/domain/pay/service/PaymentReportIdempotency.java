@@ -0,0 +1,175 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.wit.payment.domain.pay.event.PaymentReportClaimedEvent;
+import com.wit.payment.domain.pay.event.PaymentReportSettledEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 성공 보고 멱등성 (Redis SETNX).
+ *
+ * <p>에이전트는 타임아웃 시 같은 TL 패킷으로 보고를 재전송하므로, 패킷 원문의 SHA-256을 키로 먼저 선점한다. 이미 처리된 키면 파싱/저장/SMS 적재
+ * 없이 기존 결제 ID를 돌려주고, 처리 중인 키면 409로 재시도를 미룬다. 선점은 트랜잭션이 롤백되면 풀리고, 커밋되면 결제 ID로 바뀐다.
+ *
+ * <p>Redis는 빠른 경로일 뿐이고 최종 보장은 payments의 uk_payments_approval이다. Redis 장애 시에는 선점 없이 진행한다.
+ */
+@Slf4j
+@Component
+public class PaymentReportIdempotency {
+
+  private static final String KEY_PREFIX = "pay:report:";
+  private static final String PENDING = "PENDING";
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration pendingTtl;
+  private final Duration completedTtl;
+
+  public PaymentReportIdempotency(
+      StringRedisTemplate redisTemplate,
+      @Value("${pay.report.idempotency.pending-seconds:60}") long pendingSeconds,
+      @Value("${pay.report.idempotency.ttl-hours:72}") long ttlHours) {
+    this.redisTemplate = redisTemplate;
+    this.pendingTtl = Duration.ofSeconds(pendingSeconds);
+    this.completedTtl = Duration.ofHours(ttlHours);
+  }
+
+  public enum Status {
+    /** 이번 요청이 선점함 (처리 진행) */
+    ACQUIRED,
+    /** 이미 처리됨 (paymentId 있음) */
+    COMPLETED,
+    /** 다른 요청이 처리 중 */
+    IN_PROGRESS
+  }
+
+  public record Claim(Status status, Long paymentId) {
+
+    private static final Claim ACQUIRED = new Claim(Status.ACQUIRED, null);
+    private static final Claim IN_PROGRESS = new Claim(Status.IN_PROGRESS, null);
+  }
+
+  /** TL 패킷 원문 기준 멱등성 키 (재전송은 같은 패킷을 보내므로 파싱 없이 비교한다) */
+  public String keyOf(String tlPacketHex) {
+    String normalized = tlPacketHex == null ? "" : tlPacketHex.strip().toUpperCase(Locale.ROOT);
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(normalized.getBytes(StandardCharsets.US_ASCII));
+      return HexFormat.of().formatHex(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  public Claim claim(String key) {
+    return claimAll(List.of(key)).get(0);
+  }
+
+  /** 키를 한 번에 선점한다. (SETNX/GET 각각 파이프라인 1회, 결과는 keys 순서) */
+  public List<Claim> claimAll(List<String> keys) {
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+    try {
+      List<Object> acquired =
+          redisTemplate.executePipelined(
+              (RedisCallback<Object>)
+                  connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+                    Expiration ttl = Expiration.from(pendingTtl);
+                    for (String key : keys) {
+                      conn.set(KEY_PREFIX + key, PENDING, ttl, SetOption.ifAbsent());
+                    }
+                    return null;
+                  });
+
+      List<String> taken = new ArrayList<>();
+      for (int i = 0; i < keys.size(); i++) {
+        if (!Boolean.TRUE.equals(acquired.get(i))) {
+          taken.add(KEY_PREFIX + keys.get(i));
+        }
+      }
+      List<String> values =
+          taken.isEmpty() ? List.of() : redisTemplate.opsForValue().multiGet(taken);
+
+      List<Claim> claims = new ArrayList<>(keys.size());
+      int t = 0;
+      for (int i = 0; i < keys.size(); i++) {
+        claims.add(
+            Boolean.TRUE.equals(acquired.get(i)) ? Claim.ACQUIRED : toClaim(values.get(t++)));
+      }
+      return claims;
+    } catch (DataAccessException e) {
+      log.warn("[REPORT] 멱등성 키 선점 실패, DB 중복 확인으로 진행 - ex={}", e.toString());
+      return keys.stream().map(k -> Claim.ACQUIRED).toList();
+    }
+  }
+
+  /** 커밋 이후 선점한 키를 결제 ID로 바꾸고, 저장하지 않은 키는 푼다. */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void complete(PaymentReportSettledEvent event) {
+    try {
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Map.Entry<String, Long> e : event.completed().entrySet()) {
+                  conn.setEx(
+                      KEY_PREFIX + e.getKey(),
+                      completedTtl.toSeconds(),
+                      String.valueOf(e.getValue()));
+                }
+                for (String key : event.released()) {
+                  conn.del(KEY_PREFIX + key);
+                }
+                return null;
+              });
+    } catch (DataAccessException e) {
+      log.warn("[REPORT] 멱등성 키 기록 실패 (DB 중복 확인으로 대체됨) - ex={}", e.toString());
+    }
+  }
+
+  /** 롤백되면 선점을 풀어 재시도가 다시 처리되게 한다. */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+  public void release(PaymentReportClaimedEvent event) {
+    if (event.keys().isEmpty()) {
+      return;
+    }
+    try {
+      redisTemplate.delete(event.keys().stream().map(k -> KEY_PREFIX + k).toList());
+    } catch (DataAccessException e) {
+      log.warn("[REPORT] 멱등성 키 해제 실패 (선점 만료 후 재처리) - ex={}", e.toString());
+    }
+  }
+
+  private static Claim toClaim(String value) {
+    // 값이 없으면 SETNX 직후 만료/해제된 것 - 처리 중으로 보고 재시도하게 한다
+    if (value == null || PENDING.equals(value)) {
+      return Claim.IN_PROGRESS;
+    }
+    return new Claim(Status.COMPLETED, Long.valueOf(value));
+  }
+}
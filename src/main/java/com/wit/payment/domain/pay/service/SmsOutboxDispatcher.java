@@ -0,0 +1,136 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.wit.payment.domain.pay.event.SmsOutboxEnqueuedEvent;
+import com.wit.payment.domain.pay.service.SmsOutboxService.Claimed;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMS outbox 발송 워커.
+ *
+ * <p>적재 트랜잭션 커밋 직후 바로 한 번 돌고, 재시도/누락 건은 주기 폴링으로 처리한다. 발송은 가상 스레드에서 수행하며 동시 발송 수는 세마포어로 제한한다.
+ */
+@Slf4j
+@Component
+public class SmsOutboxDispatcher {
+
+  private final SmsOutboxService smsOutboxService;
+  private final SmsService smsService;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+  private final int batchSize;
+
+  // 폴링과 커밋 트리거가 겹쳐도 조회 루프는 하나만 돈다.
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  // 조회 루프가 도는 중에 들어온 트리거. 루프가 끝나기 전에 한 번 더 돈다.
+  private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+  public SmsOutboxDispatcher(
+      SmsOutboxService smsOutboxService,
+      SmsService smsService,
+      @Qualifier("smsDispatchExecutor") ExecutorService executor,
+      @Value("${sms.outbox.concurrency:8}") int concurrency,
+      @Value("${sms.outbox.batch-size:50}") int batchSize) {
+    this.smsOutboxService = smsOutboxService;
+    this.smsService = smsService;
+    this.executor = executor;
+    this.permits = new Semaphore(concurrency);
+    this.batchSize = batchSize;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onEnqueued(SmsOutboxEnqueuedEvent event) {
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      // 종료 중이면 다음 기동 시 폴링이 처리
+      log.warn("[SMS] 발송 워커 실행 거부 - count={}", event.count());
+    }
+  }
+
+  @Scheduled(
+      fixedDelayString = "${sms.outbox.poll-interval-ms:5000}",
+      initialDelayString = "${sms.outbox.poll-interval-ms:5000}")
+  public void poll() {
+    drain();
+  }
+
+  /**
+   * 발송 시각이 된 건이 없을 때까지 가져와 발송을 맡긴다. 이미 도는 중이면 요청만 남기고 돌아가며, 돌던 루프가 끝나기 전에 한 번 더 조회한다.
+   */
+  void drain() {
+    drainRequested.set(true);
+    // 루프 종료와 draining 해제 사이에 들어온 요청도 놓치지 않도록 해제 후 다시 확인한다.
+    while (drainRequested.get() && draining.compareAndSet(false, true)) {
+      try {
+        while (drainRequested.getAndSet(false)) {
+          if (!drainOnce()) {
+            return;
+          }
+        }
+      } finally {
+        draining.set(false);
+      }
+    }
+  }
+
+  /** 발송 시각이 된 건을 가져와 발송을 맡긴다. 인터럽트/실행 거부로 멈춰야 하면 false */
+  private boolean drainOnce() {
+    try {
+      List<Claimed> claimed;
+      do {
+        claimed = smsOutboxService.claimDue(batchSize);
+        for (Claimed c : claimed) {
+          permits.acquire();
+          try {
+            executor.execute(() -> send(c));
+          } catch (RejectedExecutionException e) {
+            permits.release();
+            return false; // 임대 만료 후 재발송
+          }
+        }
+      } while (claimed.size() == batchSize);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (Exception e) {
+      log.error("[SMS] outbox 조회 실패 - ex={}", e.toString(), e);
+    }
+    return true;
+  }
+
+  private void send(Claimed c) {
+    try {
+      try {
+        smsService.sendTestMessage(c.phoneNumber());
+      } catch (Exception e) {
+        log.warn("[SMS] 발송 실패 - outboxId={}, ex={}", c.id(), e.toString());
+        smsOutboxService.markFailed(c, e.toString());
+        return;
+      }
+      smsOutboxService.markSent(c);
+    } catch (Exception e) {
+      // 결과 기록 실패 시 임대 만료 후 재발송될 수 있음
+      log.error("[SMS] 발송 결과 기록 실패 - outboxId={}, ex={}", c.id(), e.toString());
+    } finally {
+      permits.release();
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.wit.payment.domain.pay.entity.SmsOutbox;
+import com.wit.payment.domain.pay.entity.SmsOutboxStatus;
+import com.wit.payment.domain.pay.event.SmsOutboxEnqueuedEvent;
+import com.wit.payment.domain.pay.repository.SmsOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMS outbox 적재/상태 관리.
+ *
+ * <p>적재는 호출 측(결제 저장) 트랜잭션에 참여하므로 결제가 롤백되면 SMS도 남지 않는다. 발송 대상 조회(claim)와 결과 기록은 각각 짧은 별도 트랜잭션으로
+ * 처리해 외부 API 호출 동안 DB 커넥션을 잡고 있지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SmsOutboxService {
+
+  private final SmsOutboxRepository smsOutboxRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${sms.outbox.max-attempts:5}")
+  private int maxAttempts;
+
+  @Value("${sms.outbox.backoff-base-seconds:30}")
+  private long backoffBaseSeconds;
+
+  @Value("${sms.outbox.backoff-max-seconds:1800}")
+  private long backoffMaxSeconds;
+
+  @Value("${sms.outbox.lease-seconds:60}")
+  private long leaseSeconds;
+
+  /** 결제 저장 트랜잭션 안에서 SMS 발송 건을 적재한다. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueue(Long paymentId, String phoneNumber) {
+    smsOutboxRepository.save(SmsOutbox.pending(paymentId, phoneNumber));
+    eventPublisher.publishEvent(new SmsOutboxEnqueuedEvent(1));
+  }
+
+  /** paymentIds와 phoneNumbers는 같은 순서/길이 */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueueAll(List<Long> paymentIds, List<String> phoneNumbers) {
+    if (phoneNumbers.isEmpty()) {
+      return;
+    }
+    List<SmsOutbox> outboxes = new ArrayList<>(phoneNumbers.size());
+    for (int i = 0; i < phoneNumbers.size(); i++) {
+      outboxes.add(SmsOutbox.pending(paymentIds.get(i), phoneNumbers.get(i)));
+    }
+    smsOutboxRepository.saveAll(outboxes);
+    eventPublisher.publishEvent(new SmsOutboxEnqueuedEvent(outboxes.size()));
+  }
+
+  /**
+   * 발송 시각이 된 대기 건을 최대 limit건 가져오고, 임대 시간만큼 nextAttemptAt을 미룬다.
+   *
+   * <p>커밋 이후에는 다른 워커가 같은 건을 다시 가져가지 않으며, 결과 기록 없이 임대가 만료되면 재발송 대상이 된다. 가져올 때마다 새 임대 토큰을
+   * 발급하므로, 만료 후 다른 워커가 다시 가져간 건에는 이전 워커의 결과가 기록되지 않는다.
+   */
+  @Transactional
+  public List<Claimed> claimDue(int limit) {
+    LocalDateTime now = LocalDateTime.now();
+    List<SmsOutbox> due = smsOutboxRepository.findDueForUpdate(now, limit);
+
+    String leaseOwner = UUID.randomUUID().toString();
+    LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+    List<Claimed> claimed = new ArrayList<>(due.size());
+    for (SmsOutbox outbox : due) {
+      outbox.lease(leaseOwner, leaseUntil);
+      claimed.add(new Claimed(outbox.getId(), outbox.getPhoneNumber(), leaseOwner));
+    }
+    return claimed;
+  }
+
+  /**
+   * 발송 완료 기록. 임대가 만료됐거나 다른 워커가 다시 가져간 건은 기록하지 않는다.
+   *
+   * @return 기록 여부
+   */
+  @Transactional
+  public boolean markSent(Claimed claimed) {
+    return smsOutboxRepository
+        .findLeasedForUpdate(claimed.id(), claimed.leaseOwner(), LocalDateTime.now())
+        .map(
+            outbox -> {
+              outbox.markSent(LocalDateTime.now());
+              return true;
+            })
+        .orElseGet(() -> leaseLost(claimed, "발송 완료"));
+  }
+
+  /**
+   * 실패 기록. 시도 횟수에 따라 지수 백오프로 다음 발송 시각을 정한다. 임대가 만료됐거나 다른 워커가 다시 가져간 건은 기록하지 않는다.
+   *
+   * @return 기록 여부
+   */
+  @Transactional
+  public boolean markFailed(Claimed claimed, String error) {
+    return smsOutboxRepository
+        .findLeasedForUpdate(claimed.id(), claimed.leaseOwner(), LocalDateTime.now())
+        .map(
+            outbox -> {
+              LocalDateTime retryAt = LocalDateTime.now().plus(backoff(outbox.getAttempts() + 1));
+              outbox.markFailed(error, retryAt, maxAttempts);
+              if (outbox.getStatus() == SmsOutboxStatus.FAILED) {
+                log.error(
+                    "[SMS] 최대 재시도 초과로 발송 포기 - outboxId={}, paymentId={}, attempts={}",
+                    outbox.getId(),
+                    outbox.getPaymentId(),
+                    outbox.getAttempts());
+              }
+              return true;
+            })
+        .orElseGet(() -> leaseLost(claimed, "발송 실패"));
+  }
+
+  // 결과를 기록하지 못한 건은 임대 만료 후(또는 이미 다른 워커가) 다시 발송한다.
+  private boolean leaseLost(Claimed claimed, String result) {
+    log.warn(
+        "[SMS] 임대 만료 또는 재임대로 {} 기록 생략 - outboxId={}, leaseOwner={}",
+        result,
+        claimed.id(),
+        claimed.leaseOwner());
+    return false;
+  }
+
+  /** base * 2^(attempt-1), 최대 backoffMaxSeconds */
+  private Duration backoff(int attempt) {
+    long seconds = backoffBaseSeconds << Math.min(attempt - 1, 20);
+    return Duration.ofSeconds(Math.min(seconds, backoffMaxSeconds));
+  }
+
+  /** 발송 워커로 넘기는 최소 정보 (엔티티를 트랜잭션 밖으로 내보내지 않음) */
+  public record Claimed(Long id, String phoneNumber, String leaseOwner) {}
+}
@@ -3,9 +3,12 @@
  */
 package com.wit.payment.domain.pay.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -16,7 +19,6 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SmsService {
 
@@ -31,7 +33,25 @@ public class SmsService {
   @Value("${aligo.api.sender-number}")
   private String senderNumber;
 
-  private final RestTemplate restTemplate = new RestTemplate();
+  private final MeterRegistry meterRegistry;
+  private final RestTemplate restTemplate;
+
+  /**
+   * 연결/응답 대기 합계는 outbox 임대 시간(sms.outbox.lease-seconds, 기본 60초)보다 충분히 짧아야 한다. 응답이 임대보다 늦으면 다른 워커가
+   * 같은 건을 다시 가져가 중복 발송될 수 있다.
+   */
+  public SmsService(
+      MeterRegistry meterRegistry,
+      RestTemplateBuilder restTemplateBuilder,
+      @Value("${sms.api.connect-timeout-ms:3000}") long connectTimeoutMs,
+      @Value("${sms.api.read-timeout-ms:10000}") long readTimeoutMs) {
+    this.meterRegistry = meterRegistry;
+    this.restTemplate =
+        restTemplateBuilder
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .readTimeout(Duration.ofMillis(readTimeoutMs))
+            .build();
+  }
 
   public void sendTestMessage(String receiver) {
     MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
@@ -51,13 +71,23 @@ public class SmsService {
 
     HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(params, headers);
 
+    // 발송 API 호출 시간/실패 (sms.send, outcome 태그)
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "failure";
     try {
       ResponseEntity<String> response =
           restTemplate.postForEntity(API_URL, requestEntity, String.class);
+      outcome = "success";
       log.info("[SMS] 발송 결과 = {}", response.getBody());
     } catch (Exception e) {
       log.error("[SMS] 발송 실패: {}", e.getMessage(), e);
       throw new RuntimeException("SMS 전송 실패", e);
+    } finally {
+      sample.stop(
+          Timer.builder("sms.send")
+              .description("SMS 발송 API 호출 소요 시간")
+              .tag("outcome", outcome)
+              .register(meterRegistry));
     }
   }
 }
@@ -19,9 +19,15 @@ public class ProductImageResponse {
   @Schema(description = "이미지 식별자", example = "1")
   private Long id;
 
-  @Schema(description = "이미지 URL")
+  @Schema(description = "이미지 URL (원본 크기)")
   private String imageUrl;
 
+  @Schema(description = "작은 이미지 URL (긴 변 160px, 없으면 원본 URL)")
+  private String smallImageUrl;
+
+  @Schema(description = "중간 이미지 URL (긴 변 480px, 없으면 원본 URL)")
+  private String mediumImageUrl;
+
   @Schema(description = "이미지 순서", example = "0")
   private Integer orderNum;
 }
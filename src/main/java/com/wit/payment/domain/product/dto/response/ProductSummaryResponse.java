@@ -36,6 +36,6 @@ public class ProductSummaryResponse {
   @Schema(description = "상품 상태", example = "ON_SALE")
   private ProductStatus status;
 
-  @Schema(description = "대표 이미지 URL")
+  @Schema(description = "대표 이미지 URL (작은 사본, 없으면 원본 URL)")
   private String thumbnailImageUrl;
 }
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "product_image")
+@Table(
+    name = "product_image",
+    indexes = @Index(name = "idx_product_image_order", columnList = "product_id, image_order"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -41,6 +44,18 @@ public class ProductImage extends BaseTimeEntity {
   @Column(name = "image_url", nullable = false)
   private String imageUrl;
 
+  /** 목록 썸네일용 사본(긴 변 160px). 사본 도입 전 이미지는 null */
+  @Column(name = "small_image_url")
+  private String smallImageUrl;
+
+  /** 상세 화면용 사본(긴 변 480px). 사본 도입 전 이미지는 null */
+  @Column(name = "medium_image_url")
+  private String mediumImageUrl;
+
+  /** stored_image 내용 해시 (참조 수 관리). 중복 제거 도입 전 이미지는 null */
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+
   /** 대표 이미지 순서(0,1,2...). 리스트 조회시 order ASC로 정렬해서 첫 번째 이미지를 대표 이미지로 사용. */
   @Column(name = "image_order", nullable = false)
   private Integer orderNum;
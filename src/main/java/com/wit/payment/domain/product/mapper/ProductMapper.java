@@ -17,6 +17,8 @@ import com.wit.payment.domain.product.dto.response.ProductSummaryResponse;
 import com.wit.payment.domain.product.entity.Product;
 import com.wit.payment.domain.product.entity.ProductImage;
 import com.wit.payment.domain.product.entity.ProductStatus;
+import com.wit.payment.domain.product.repository.ProductSummaryRow;
+import com.wit.payment.global.s3.dto.UploadedImage;
 
 @Component
 public class ProductMapper {
@@ -35,22 +37,25 @@ public class ProductMapper {
         .build();
   }
 
-  public List<ProductImage> toProductImages(Product product, List<String> imageUrls) {
-    if (imageUrls == null || imageUrls.isEmpty()) {
+  public List<ProductImage> toProductImages(Product product, List<UploadedImage> uploaded) {
+    if (uploaded == null || uploaded.isEmpty()) {
       return List.of();
     }
 
     List<ProductImage> images = new ArrayList<>();
-    for (int i = 0; i < imageUrls.size(); i++) {
-      String url = imageUrls.get(i);
-      if (url == null) {
+    for (int i = 0; i < uploaded.size(); i++) {
+      UploadedImage image = uploaded.get(i);
+      if (image == null) {
         continue;
       }
 
       images.add(
           ProductImage.builder()
               .product(product)
-              .imageUrl(url)
+              .contentHash(image.contentHash())
+              .imageUrl(image.imageUrl())
+              .smallImageUrl(image.smallImageUrl())
+              .mediumImageUrl(image.mediumImageUrl())
               .orderNum(i) // 0 = 썸네일, 나머지 = 디테일
               .build());
     }
@@ -58,23 +63,15 @@ public class ProductMapper {
   }
 
   /** 목록용 요약 응답 (대표 이미지 포함) */
-  public ProductSummaryResponse toProductSummaryResponse(Product product) {
-    String thumbnailUrl =
-        product.getImages() == null || product.getImages().isEmpty()
-            ? null
-            : product.getImages().stream()
-                .min(Comparator.comparingInt(ProductImage::getOrderNum))
-                .map(ProductImage::getImageUrl)
-                .orElse(null);
-
+  public ProductSummaryResponse toProductSummaryResponse(ProductSummaryRow row) {
     return ProductSummaryResponse.builder()
-        .id(product.getId())
-        .categoryName(product.getCategory().getName())
-        .name(product.getName())
-        .subTitle(product.getSubTitle())
-        .price(product.getPrice())
-        .status(product.getStatus())
-        .thumbnailImageUrl(thumbnailUrl)
+        .id(row.id())
+        .categoryName(row.categoryName())
+        .name(row.name())
+        .subTitle(row.subTitle())
+        .price(row.price())
+        .status(row.status())
+        .thumbnailImageUrl(row.thumbnailImageUrl())
         .build();
   }
 
@@ -106,6 +103,10 @@ public class ProductMapper {
     return ProductImageResponse.builder()
         .id(image.getId())
         .imageUrl(image.getImageUrl())
+        .smallImageUrl(
+            image.getSmallImageUrl() != null ? image.getSmallImageUrl() : image.getImageUrl())
+        .mediumImageUrl(
+            image.getMediumImageUrl() != null ? image.getMediumImageUrl() : image.getImageUrl())
         .orderNum(image.getOrderNum())
         .build();
   }
@@ -12,4 +12,7 @@ import com.wit.payment.domain.product.entity.ProductImage;
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
 
   List<ProductImage> findByProductIdOrderByOrderNumAsc(Long productId);
+
+  // 카테고리 삭제 시 소속 상품 이미지의 참조 해제용
+  List<ProductImage> findByProductCategoryId(Long categoryId);
 }
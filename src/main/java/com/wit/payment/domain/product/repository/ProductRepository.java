@@ -3,6 +3,7 @@
  */
 package com.wit.payment.domain.product.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,36 +16,60 @@ import com.wit.payment.domain.product.entity.ProductStatus;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-  // storeId 기준으로 HIDDEN 아닌 상품 목록 조회 (키오스크 노출용)
-  List<Product> findByCategoryIdAndStatusNotOrderByCreatedAtAsc(Long storeId, ProductStatus status);
-
   Long deleteByCategoryId(Long categoryId);
 
+  // 상품 목록: 숨김 제외 전체 상품 요약 + 카테고리명 + 대표 이미지 (등록순, 쿼리 1회)
   @Query(
-      "select distinct p "
-          + "from Product p "
-          + "join p.kioskProducts kp "
-          + "join kp.kiosk k "
-          + "where p.category.id = :categoryId "
-          + "and p.status <> :status "
-          + "and k.id = :kioskId "
-          + "order by p.createdAt asc")
-  List<Product> findByCategoryAndKioskAndStatusNotOrderByCreatedAtAsc(
-      @Param("categoryId") Long categoryId,
-      @Param("kioskId") Long kioskId,
-      @Param("status") ProductStatus status);
+      """
+          SELECT new com.wit.payment.domain.product.repository.ProductSummaryRow(
+              c.id, p.id, c.name, p.name, p.subTitle, p.price, p.status,
+              COALESCE(pi.smallImageUrl, pi.imageUrl))
+          FROM Product p
+          JOIN p.category c
+          LEFT JOIN ProductImage pi
+              ON pi.product = p
+              AND pi.orderNum = (
+                  SELECT MIN(pi2.orderNum) FROM ProductImage pi2 WHERE pi2.product = p)
+          WHERE p.status <> :status
+          ORDER BY p.createdAt ASC, p.id ASC
+      """)
+  List<ProductSummaryRow> findSummaries(@Param("status") ProductStatus status);
+
+  // 상품 목록: 키오스크에 노출되는 숨김 제외 상품 요약 (등록순, 쿼리 1회)
+  @Query(
+      """
+          SELECT new com.wit.payment.domain.product.repository.ProductSummaryRow(
+              c.id, p.id, c.name, p.name, p.subTitle, p.price, p.status,
+              COALESCE(pi.smallImageUrl, pi.imageUrl))
+          FROM Product p
+          JOIN p.category c
+          LEFT JOIN ProductImage pi
+              ON pi.product = p
+              AND pi.orderNum = (
+                  SELECT MIN(pi2.orderNum) FROM ProductImage pi2 WHERE pi2.product = p)
+          WHERE p.status <> :status
+          AND EXISTS (
+              SELECT 1 FROM KioskProduct kp WHERE kp.product = p AND kp.kiosk.id = :kioskId)
+          ORDER BY p.createdAt ASC, p.id ASC
+      """)
+  List<ProductSummaryRow> findSummariesByKiosk(
+      @Param("kioskId") Long kioskId, @Param("status") ProductStatus status);
 
   boolean existsByCategoryAndName(Category category, String name);
 
   List<Product> findByIdIn(Iterable<Long> ids);
 
+  // 여러 상품의 이름 + 대표 이미지를 한 번에 조회 (이미지 없는 상품은 imageUrl = null)
   @Query(
       """
-          SELECT pi.imageUrl
-          FROM ProductImage pi
-          WHERE pi.product.id = :productId
-          ORDER BY pi.orderNum ASC
-          LIMIT 1
+          SELECT new com.wit.payment.domain.product.repository.ProductThumbnailRow(
+              p.id, p.name, COALESCE(pi.smallImageUrl, pi.imageUrl))
+          FROM Product p
+          LEFT JOIN ProductImage pi
+              ON pi.product = p
+              AND pi.orderNum = (
+                  SELECT MIN(pi2.orderNum) FROM ProductImage pi2 WHERE pi2.product = p)
+          WHERE p.id IN :ids
       """)
-  String findTopImageUrl(Long productId);
+  List<ProductThumbnailRow> findThumbnailsByIdIn(@Param("ids") Collection<Long> ids);
 }
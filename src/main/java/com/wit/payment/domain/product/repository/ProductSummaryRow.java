@@ -0,0 +1,17 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.product.repository;
+
+import com.wit.payment.domain.product.entity.ProductStatus;
+
+/** 상품 목록용 프로젝션 (카테고리명 + 대표 이미지까지 한 번의 쿼리로 조회) */
+public record ProductSummaryRow(
+    Long categoryId,
+    Long id,
+    String categoryName,
+    String name,
+    String subTitle,
+    Integer price,
+    ProductStatus status,
+    String thumbnailImageUrl) {}
@@ -0,0 +1,7 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.product.repository;
+
+/** 상품명 + 대표 이미지(이미지 순서가 가장 앞선 것) 프로젝션 */
+public record ProductThumbnailRow(Long productId, String name, String imageUrl) {}
@@ -0,0 +1,49 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.product.service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.wit.payment.domain.menu.event.MenuChangedEvent;
+import com.wit.payment.domain.product.dto.response.ProductDetailResponse;
+import com.wit.payment.global.cache.TwoTierCache;
+import com.wit.payment.global.cache.TwoTierCacheManager;
+
+/** 상품 상세 응답 캐시 (로컬 → Redis). 상품/카테고리 변경이 커밋되면 모든 인스턴스에서 비운다. */
+@Component
+public class ProductDetailCache {
+
+  private final TwoTierCache<ProductDetailResponse> cache;
+
+  public ProductDetailCache(
+      TwoTierCacheManager cacheManager,
+      @Value("${cache.product-detail.local-max-size:1000}") long localMaxSize,
+      @Value("${cache.product-detail.local-ttl-seconds:60}") long localTtlSeconds,
+      @Value("${cache.product-detail.redis-ttl-seconds:600}") long redisTtlSeconds) {
+    this.cache =
+        cacheManager.create(
+            "product-detail",
+            ProductDetailResponse.class,
+            localMaxSize,
+            Duration.ofSeconds(localTtlSeconds),
+            Duration.ofSeconds(redisTtlSeconds));
+  }
+
+  public ProductDetailResponse get(Long productId, Supplier<ProductDetailResponse> loader) {
+    return cache.get(String.valueOf(productId), loader);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onMenuChanged(MenuChangedEvent event) {
+    if (!event.source().startsWith("kiosk.")) {
+      cache.invalidateAll();
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.product.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.wit.payment.domain.product.entity.ProductImage;
+import com.wit.payment.global.s3.service.S3Service;
+import com.wit.payment.global.s3.service.StoredImageService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 이미지 삭제 시 저장 이미지 참조를 해제한다. 상품 삭제/수정과 카테고리 삭제(소속 상품 일괄 삭제)가 같은 경로를 쓴다.
+ *
+ * <p>마지막 참조였던 이미지는 커밋 이후 S3에서 삭제된다. 중복 제거 도입 전 이미지(contentHash 없음)는 크기별 사본까지 바로 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImageReleaser {
+
+  private final StoredImageService storedImageService;
+  private final S3Service s3Service;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void release(Collection<ProductImage> images) {
+    List<String> contentHashes = new ArrayList<>();
+    for (ProductImage image : images) {
+      if (image.getContentHash() != null) {
+        contentHashes.add(image.getContentHash());
+        continue;
+      }
+      Stream.of(image.getImageUrl(), image.getSmallImageUrl(), image.getMediumImageUrl())
+          .filter(Objects::nonNull)
+          .distinct()
+          .forEach(s3Service::deleteByUrl);
+    }
+    storedImageService.release(contentHashes);
+  }
+}
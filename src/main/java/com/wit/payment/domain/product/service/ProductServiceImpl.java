@@ -3,9 +3,9 @@
  */
 package com.wit.payment.domain.product.service;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,20 +16,23 @@ import com.wit.payment.domain.category.repository.CategoryRepository;
 import com.wit.payment.domain.kiosk.entity.Kiosk;
 import com.wit.payment.domain.kiosk.exception.KioskErrorCode;
 import com.wit.payment.domain.kiosk.repository.KioskRepository;
+import com.wit.payment.domain.menu.dto.response.MenuCategoryResponse;
+import com.wit.payment.domain.menu.event.MenuChangedEvent;
+import com.wit.payment.domain.menu.service.MenuSnapshotCache;
 import com.wit.payment.domain.product.dto.request.CreateProductRequest;
 import com.wit.payment.domain.product.dto.request.UpdateProductRequest;
 import com.wit.payment.domain.product.dto.response.ProductDetailResponse;
 import com.wit.payment.domain.product.dto.response.ProductSummaryResponse;
 import com.wit.payment.domain.product.entity.Product;
 import com.wit.payment.domain.product.entity.ProductImage;
-import com.wit.payment.domain.product.entity.ProductStatus;
 import com.wit.payment.domain.product.exception.ProductErrorCode;
 import com.wit.payment.domain.product.mapper.ProductMapper;
 import com.wit.payment.domain.product.repository.ProductImageRepository;
 import com.wit.payment.domain.product.repository.ProductRepository;
 import com.wit.payment.global.exception.CustomException;
+import com.wit.payment.global.s3.dto.UploadedImage;
 import com.wit.payment.global.s3.entity.PathName;
-import com.wit.payment.global.s3.service.S3Service;
+import com.wit.payment.global.s3.service.StoredImageService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,8 +49,12 @@ public class ProductServiceImpl implements ProductService {
   private final ProductRepository productRepository;
   private final ProductImageRepository productImageRepository;
   private final ProductMapper productMapper;
-  private final S3Service s3Service;
+  private final StoredImageService storedImageService;
+  private final ProductImageReleaser productImageReleaser;
   private final KioskRepository kioskRepository;
+  private final MenuSnapshotCache menuSnapshotCache;
+  private final ProductDetailCache productDetailCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -68,8 +75,8 @@ public class ProductServiceImpl implements ProductService {
     Product product = productMapper.toProduct(category, request);
     Product saved = productRepository.save(product);
 
-    List<String> imageUrls = toImageUrls(images);
-    List<ProductImage> productImages = productMapper.toProductImages(saved, imageUrls);
+    List<UploadedImage> uploaded = uploadImages(images);
+    List<ProductImage> productImages = productMapper.toProductImages(saved, uploaded);
 
     if (!productImages.isEmpty()) {
       productImageRepository.saveAll(productImages);
@@ -85,6 +92,7 @@ public class ProductServiceImpl implements ProductService {
       saved.updateKiosks(kiosks);
     }
 
+    eventPublisher.publishEvent(new MenuChangedEvent("product.create"));
     log.info("상품 생성 성공 - productId: {}, categoryId: {}", saved.getId(), categoryId);
     return productMapper.toProductDetailResponse(saved);
   }
@@ -108,14 +116,17 @@ public class ProductServiceImpl implements ProductService {
         request.getDescription(),
         request.getStatus());
 
+    // 새 이미지 참조를 먼저 추가한다. 업로드가 실패하면 기존 이미지를 건드리지 않고, 같은 이미지를 다시 올리면
+    // 업로드 없이 참조만 옮겨진다.
+    List<UploadedImage> uploaded = uploadImages(images);
+
     if (product.getImages() != null && !product.getImages().isEmpty()) {
-      deleteImagesFromS3(product.getImages());
+      productImageReleaser.release(product.getImages());
       productImageRepository.deleteAll(product.getImages());
       product.getImages().clear();
     }
 
-    List<String> imageUrls = toImageUrls(images);
-    List<ProductImage> newImages = productMapper.toProductImages(product, imageUrls);
+    List<ProductImage> newImages = productMapper.toProductImages(product, uploaded);
 
     if (!newImages.isEmpty()) {
       productImageRepository.saveAll(newImages);
@@ -138,6 +149,7 @@ public class ProductServiceImpl implements ProductService {
       }
     }
 
+    eventPublisher.publishEvent(new MenuChangedEvent("product.update"));
     log.info("상품 수정 성공 - productId: {}", productId);
     return productMapper.toProductDetailResponse(product);
   }
@@ -151,6 +163,7 @@ public class ProductServiceImpl implements ProductService {
             .orElseThrow(() -> new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND));
 
     product.hide();
+    eventPublisher.publishEvent(new MenuChangedEvent("product.hide"));
     log.info("상품 soft 삭제(HIDDEN 처리) - productId: {}", productId);
   }
 
@@ -163,92 +176,57 @@ public class ProductServiceImpl implements ProductService {
             .orElseThrow(() -> new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND));
 
     if (product.getImages() != null && !product.getImages().isEmpty()) {
-      deleteImagesFromS3(product.getImages());
+      productImageReleaser.release(product.getImages());
       productImageRepository.deleteAll(product.getImages());
       product.getImages().clear();
     }
 
     productRepository.delete(product);
+    eventPublisher.publishEvent(new MenuChangedEvent("product.delete"));
     log.info("상품 hard 삭제 - productId: {}", productId);
   }
 
+  /** 키오스크 메뉴 스냅샷에서 바로 응답한다. (메뉴 변경이 없으면 DB 조회 없음) */
   @Override
   public List<ProductSummaryResponse> getProductsByCategory(Long categoryId, Long kioskId) {
-    storeRepository
-        .findById(categoryId)
-        .orElseThrow(() -> new CustomException(CategoryErrorCode.CATEGORY_NOT_FOUND));
-
-    List<Product> products;
-
-    if (kioskId == null) {
-      products =
-          productRepository.findByCategoryIdAndStatusNotOrderByCreatedAtAsc(
-              categoryId, ProductStatus.HIDDEN);
-
-      log.info("카테고리별 상품 목록 조회 성공 - categoryId: {}, count: {}", categoryId, products.size());
-    } else {
-      kioskRepository
-          .findById(kioskId)
-          .orElseThrow(() -> new CustomException(KioskErrorCode.KIOSK_NOT_FOUND));
-
-      products =
-          productRepository.findByCategoryAndKioskAndStatusNotOrderByCreatedAtAsc(
-              categoryId, kioskId, ProductStatus.HIDDEN);
-
-      log.info(
-          "카테고리별 상품 목록 조회 성공 (키오스크 필터) - categoryId: {}, kioskId: {}, count: {}",
-          categoryId,
-          kioskId,
-          products.size());
+    MenuCategoryResponse category = menuSnapshotCache.get(kioskId).byCategoryId().get(categoryId);
+
+    if (category == null) {
+      throw new CustomException(CategoryErrorCode.CATEGORY_NOT_FOUND);
     }
 
-    return products.stream().map(productMapper::toProductSummaryResponse).toList();
+    log.info(
+        "카테고리별 상품 목록 조회 성공 - categoryId: {}, kioskId: {}, count: {}",
+        categoryId,
+        kioskId,
+        category.products().size());
+
+    return category.products();
   }
 
   @Override
   public ProductDetailResponse getProductDetail(Long productId) {
-    Product product =
-        productRepository
-            .findById(productId)
-            .orElseThrow(() -> new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND));
+    ProductDetailResponse response =
+        productDetailCache.get(
+            productId,
+            () ->
+                productMapper.toProductDetailResponse(
+                    productRepository
+                        .findById(productId)
+                        .orElseThrow(
+                            () -> new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND))));
 
     log.info("상품 상세 조회 성공 - productId: {}", productId);
-    return productMapper.toProductDetailResponse(product);
-  }
-
-  /**
-   * MultipartFile 리스트를 S3에 업로드하고, 업로드된 파일의 URL 리스트를 반환합니다.
-   *
-   * <p>각 파일은 {@link PathName#PRODUCT} 경로에 업로드됩니다.
-   */
-  private List<String> toImageUrls(List<MultipartFile> files) {
-    if (files == null || files.isEmpty()) {
-      return List.of();
-    }
-    List<String> urls = new ArrayList<>();
-    for (MultipartFile file : files) {
-      if (file == null || file.isEmpty()) {
-        continue;
-      }
-      // S3에 업로드하고 URL 추출
-      String imageUrl = s3Service.uploadImage(PathName.PRODUCT, file).getImageUrl();
-      urls.add(imageUrl);
-    }
-    return urls;
+    return response;
   }
 
   /**
-   * ProductImage 엔티티 리스트에 포함된 이미지들을 S3에서 삭제합니다.
+   * MultipartFile 리스트를 {@link PathName#PRODUCT} 경로에 저장하고, 입력 순서대로 크기별 URL 묶음을 반환합니다.
    *
-   * @param images 삭제할 이미지 엔티티 리스트
+   * <p>이미 저장된 내용의 이미지는 변환/업로드 없이 참조만 추가됩니다.
    */
-  private void deleteImagesFromS3(List<ProductImage> images) {
-    for (ProductImage image : images) {
-      if (image.getImageUrl() == null) {
-        continue;
-      }
-      s3Service.deleteByUrl(image.getImageUrl());
-    }
+  private List<UploadedImage> uploadImages(List<MultipartFile> files) {
+    return storedImageService.acquire(PathName.PRODUCT, files);
   }
 
   /** 상품 생성 시 이미지가 최소 1장 이상 최대 4장 이하로 존재하는지 검증합니다. */
@@ -0,0 +1,109 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.wit.payment.domain.sales.dto.response.DailySalesResponse;
+import com.wit.payment.domain.sales.dto.response.ProductSalesResponse;
+import com.wit.payment.domain.sales.dto.response.RollupBackfillResponse;
+import com.wit.payment.domain.sales.service.SalesRollupService;
+import com.wit.payment.global.response.BaseResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Sales", description = "매출 집계 API")
+@RestController
+@RequestMapping(value = "/api/admin/sales", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+public class SalesController {
+
+  private final SalesRollupService salesRollupService;
+
+  @GetMapping("/daily")
+  @Operation(
+      summary = "일별 매출 조회 API",
+      description = "일별 결제 건수와 승인금액/부가세/봉사료 합계를 조회합니다. (기본 최근 30일)")
+  public ResponseEntity<BaseResponse<List<DailySalesResponse>>> getDailySales(
+      @Parameter(description = "매출일자 시작 (포함)", example = "2025-12-01")
+          @RequestParam(value = "from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @Parameter(description = "매출일자 종료 (포함)", example = "2025-12-31")
+          @RequestParam(value = "to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to,
+      @Parameter(description = "단말기 ID (TID)", example = "7109912041")
+          @RequestParam(value = "terminal-id", required = false)
+          String terminalId,
+      @Parameter(description = "키오스크 ID", example = "1")
+          @RequestParam(value = "kiosk-id", required = false)
+          Long kioskId) {
+
+    List<DailySalesResponse> responses =
+        salesRollupService.getDailySales(from, to, terminalId, kioskId);
+
+    return ResponseEntity.ok(BaseResponse.success("일별 매출 조회가 완료되었습니다.", responses));
+  }
+
+  @GetMapping("/products")
+  @Operation(
+      summary = "상품별 판매 건수 조회 API",
+      description = "기간 내 상품별로 해당 상품이 포함된 결제 건수를 조회합니다. (기본 최근 30일)")
+  public ResponseEntity<BaseResponse<List<ProductSalesResponse>>> getProductSales(
+      @Parameter(description = "매출일자 시작 (포함)", example = "2025-12-01")
+          @RequestParam(value = "from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @Parameter(description = "매출일자 종료 (포함)", example = "2025-12-31")
+          @RequestParam(value = "to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to,
+      @Parameter(description = "단말기 ID (TID)", example = "7109912041")
+          @RequestParam(value = "terminal-id", required = false)
+          String terminalId,
+      @Parameter(description = "키오스크 ID", example = "1")
+          @RequestParam(value = "kiosk-id", required = false)
+          Long kioskId) {
+
+    List<ProductSalesResponse> responses =
+        salesRollupService.getProductSales(from, to, terminalId, kioskId);
+
+    return ResponseEntity.ok(BaseResponse.success("상품별 판매 건수 조회가 완료되었습니다.", responses));
+  }
+
+  @PostMapping("/rollup/backfill")
+  @Operation(
+      summary = "매출 집계 재생성 API",
+      description =
+          "기간 내 일별 매출 집계를 결제 원본에서 하루씩 다시 만듭니다. (기간 최대 366일) "
+              + "한 번에 31일까지만 처리하며, 응답의 nextFrom이 있으면 from으로 넘겨 이어서 호출합니다.")
+  public ResponseEntity<BaseResponse<RollupBackfillResponse>> backfill(
+      @Parameter(description = "시작일 (포함)", example = "2025-01-01")
+          @RequestParam("from")
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @Parameter(description = "종료일 (포함)", example = "2025-12-31")
+          @RequestParam("to")
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to) {
+
+    RollupBackfillResponse response = salesRollupService.backfill(from, to);
+
+    return ResponseEntity.ok(BaseResponse.success("매출 집계 재생성이 완료되었습니다.", response));
+  }
+}
@@ -0,0 +1,16 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.dto.response;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일별 매출 합계 응답")
+public record DailySalesResponse(
+    @Schema(description = "매출일자", example = "2025-12-04") LocalDate salesDate,
+    @Schema(description = "결제 건수", example = "42") Long paymentCount,
+    @Schema(description = "승인금액 합계(원)", example = "420000") Long grossAmount,
+    @Schema(description = "부가세 합계(원)", example = "38181") Long vatAmount,
+    @Schema(description = "봉사료 합계(원)", example = "0") Long svcAmount) {}
@@ -0,0 +1,11 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품별 판매 건수 응답")
+public record ProductSalesResponse(
+    @Schema(description = "상품 ID", example = "101") Long productId,
+    @Schema(description = "해당 상품이 포함된 결제 건수", example = "17") Long paymentCount) {}
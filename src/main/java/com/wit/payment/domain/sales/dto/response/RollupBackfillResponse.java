@@ -0,0 +1,19 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.dto.response;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "매출 집계 재생성 결과 응답")
+@Builder
+public record RollupBackfillResponse(
+    @Schema(description = "시작일", example = "2025-01-01") LocalDate from,
+    @Schema(description = "이번 호출에서 처리한 마지막 일자", example = "2025-01-31") LocalDate to,
+    @Schema(description = "처리한 일수", example = "31") int days,
+    @Schema(description = "생성된 집계 행 수", example = "1520") long rows,
+    @Schema(description = "남은 기간의 시작일 (다음 호출의 from, 끝났으면 null)", example = "2025-02-01")
+        LocalDate nextFrom) {}
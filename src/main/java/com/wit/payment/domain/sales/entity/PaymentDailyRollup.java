@@ -0,0 +1,82 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.wit.payment.global.common.BaseTimeEntity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 매출 집계. (매출일자, 단말기 ID, 키오스크, 상품) 단위로 누적한다.
+ *
+ * <p>결제 금액은 결제 단위로만 알 수 있으므로 상품별로 나누지 않는다. productId = {@link #ALL_PRODUCTS} 행에 결제 건수/금액 합계를
+ * 두고, 상품별 행에는 해당 상품이 포함된 결제 건수만 둔다. (상품별 행의 금액 컬럼은 0)
+ */
+@Getter
+@Entity
+@Table(
+    name = "payment_daily_rollup",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_payment_daily_rollup",
+            columnNames = {"sales_date", "terminal_id", "kiosk_id", "product_id"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(toBuilder = true)
+public class PaymentDailyRollup extends BaseTimeEntity {
+
+  /** 결제 합계 행의 productId */
+  public static final long ALL_PRODUCTS = 0L;
+
+  /** 키오스크 정보가 없는 결제의 kioskId (유니크 키에 NULL을 쓰지 않기 위함) */
+  public static final long UNKNOWN_KIOSK = 0L;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "payment_daily_rollup_id")
+  private Long id;
+
+  /** 매출일자 (승인일자 기준) */
+  @Column(name = "sales_date", nullable = false)
+  private LocalDate salesDate;
+
+  @Column(name = "terminal_id", length = 16, nullable = false)
+  private String terminalId;
+
+  @Column(name = "kiosk_id", nullable = false)
+  private Long kioskId;
+
+  @Column(name = "product_id", nullable = false)
+  private Long productId;
+
+  /** 결제 건수 */
+  @Column(name = "payment_count", nullable = false)
+  private long paymentCount;
+
+  /** 승인금액 합계 */
+  @Column(name = "gross_amount", nullable = false)
+  private long grossAmount;
+
+  /** 부가세 합계 */
+  @Column(name = "vat_amount", nullable = false)
+  private long vatAmount;
+
+  /** 봉사료 합계 */
+  @Column(name = "svc_amount", nullable = false)
+  private long svcAmount;
+}
@@ -0,0 +1,31 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매출일자별 집계 잠금 행. 증분 반영과 재생성이 같은 일자를 동시에 다루지 않도록 이 행을 먼저 잠근다.
+ *
+ * <p>행은 처음 잠글 때 만들어지며 삭제하지 않는다. (PaymentRollupJdbcRepository#lockDays)
+ */
+@Getter
+@Entity
+@Table(name = "payment_daily_rollup_lock")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentDailyRollupLock {
+
+  @Id
+  @Column(name = "sales_date")
+  private LocalDate salesDate;
+}
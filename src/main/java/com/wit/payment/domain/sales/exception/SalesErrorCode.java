@@ -0,0 +1,23 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.wit.payment.global.exception.model.BaseErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SalesErrorCode implements BaseErrorCode {
+  INVALID_DATE_RANGE("SALES_4001", "조회 시작일이 종료일보다 늦습니다.", HttpStatus.BAD_REQUEST),
+  DATE_RANGE_TOO_LARGE("SALES_4002", "조회 기간이 너무 깁니다.", HttpStatus.BAD_REQUEST),
+  ;
+
+  private final String code;
+  private final String message;
+  private final HttpStatus status;
+}
@@ -0,0 +1,53 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.wit.payment.domain.sales.dto.response.DailySalesResponse;
+import com.wit.payment.domain.sales.dto.response.ProductSalesResponse;
+import com.wit.payment.domain.sales.entity.PaymentDailyRollup;
+
+public interface PaymentDailyRollupRepository extends JpaRepository<PaymentDailyRollup, Long> {
+
+  // 기간 내 일별 합계 (결제 합계 행만 사용, 단말/키오스크 필터는 null이면 미적용)
+  @Query(
+      "select new com.wit.payment.domain.sales.dto.response.DailySalesResponse("
+          + " r.salesDate, sum(r.paymentCount), sum(r.grossAmount), sum(r.vatAmount),"
+          + " sum(r.svcAmount))"
+          + " from PaymentDailyRollup r"
+          + " where r.productId = 0"
+          + " and r.salesDate between :from and :to"
+          + " and (:terminalId is null or r.terminalId = :terminalId)"
+          + " and (:kioskId is null or r.kioskId = :kioskId)"
+          + " group by r.salesDate"
+          + " order by r.salesDate asc")
+  List<DailySalesResponse> sumDaily(
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to,
+      @Param("terminalId") String terminalId,
+      @Param("kioskId") Long kioskId);
+
+  // 기간 내 상품별 결제 건수 (많이 팔린 순)
+  @Query(
+      "select new com.wit.payment.domain.sales.dto.response.ProductSalesResponse("
+          + " r.productId, sum(r.paymentCount))"
+          + " from PaymentDailyRollup r"
+          + " where r.productId <> 0"
+          + " and r.salesDate between :from and :to"
+          + " and (:terminalId is null or r.terminalId = :terminalId)"
+          + " and (:kioskId is null or r.kioskId = :kioskId)"
+          + " group by r.productId"
+          + " order by sum(r.paymentCount) desc, r.productId asc")
+  List<ProductSalesResponse> sumByProduct(
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to,
+      @Param("terminalId") String terminalId,
+      @Param("kioskId") Long kioskId);
+}
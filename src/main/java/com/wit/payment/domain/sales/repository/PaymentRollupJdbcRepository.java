@@ -0,0 +1,160 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * payment_daily_rollup 증분 반영/재생성용 JDBC 저장소.
+ *
+ * <p>증분은 INSERT ... ON DUPLICATE KEY UPDATE로 더하므로 동시에 여러 보고가 들어와도 행 잠금 안에서 누적된다. (MySQL 전용)
+ *
+ * <p>증분 반영과 재생성은 모두 일자 잠금 행({@link #lockDays})을 먼저 잡고, 결제마다 payments.rolled_up 을 표시한 것만 반영한다.
+ * 결제 커밋과 증분 반영 사이에 재생성이 끼어들어도 같은 결제가 두 번 더해지거나 빠지지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentRollupJdbcRepository {
+
+  private static final String UPSERT =
+      "INSERT INTO payment_daily_rollup"
+          + " (sales_date, terminal_id, kiosk_id, product_id, payment_count, gross_amount,"
+          + " vat_amount, svc_amount, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+          + " ON DUPLICATE KEY UPDATE"
+          + " payment_count = payment_count + VALUES(payment_count),"
+          + " gross_amount = gross_amount + VALUES(gross_amount),"
+          + " vat_amount = vat_amount + VALUES(vat_amount),"
+          + " svc_amount = svc_amount + VALUES(svc_amount),"
+          + " updated_at = VALUES(updated_at)";
+
+  private static final String LOCK_DAY =
+      "INSERT INTO payment_daily_rollup_lock (sales_date) VALUES (?)"
+          + " ON DUPLICATE KEY UPDATE sales_date = sales_date";
+
+  private static final String SELECT_NOT_ROLLED_UP =
+      "SELECT payment_id FROM payments WHERE rolled_up = FALSE AND payment_id IN (%s) FOR UPDATE";
+
+  private static final String MARK_ROLLED_UP =
+      "UPDATE payments SET rolled_up = TRUE WHERE payment_id IN (%s)";
+
+  private static final String MARK_DAY_ROLLED_UP =
+      "UPDATE payments SET rolled_up = TRUE WHERE org_approved_date = ? AND rolled_up = FALSE";
+
+  private static final String DELETE_DAY = "DELETE FROM payment_daily_rollup WHERE sales_date = ?";
+
+  // 결제 합계 행 (product_id = 0, kiosk 없음 = 0)
+  private static final String REBUILD_TOTALS =
+      "INSERT INTO payment_daily_rollup"
+          + " (sales_date, terminal_id, kiosk_id, product_id, payment_count, gross_amount,"
+          + " vat_amount, svc_amount, created_at, updated_at)"
+          + " SELECT p.org_approved_date, p.terminal_id, COALESCE(p.kiosk_id, 0), 0, COUNT(*),"
+          + " SUM(p.amount), SUM(p.vat_amount), SUM(p.svc_amount), ?, ?"
+          + " FROM payments p"
+          + " WHERE p.org_approved_date = ? AND p.rolled_up = TRUE"
+          + " GROUP BY p.org_approved_date, p.terminal_id, COALESCE(p.kiosk_id, 0)";
+
+  // 상품별 행 (해당 상품이 포함된 결제 건수)
+  private static final String REBUILD_PRODUCTS =
+      "INSERT INTO payment_daily_rollup"
+          + " (sales_date, terminal_id, kiosk_id, product_id, payment_count, gross_amount,"
+          + " vat_amount, svc_amount, created_at, updated_at)"
+          + " SELECT p.org_approved_date, p.terminal_id, COALESCE(p.kiosk_id, 0), i.product_id,"
+          + " COUNT(DISTINCT p.payment_id), 0, 0, 0, ?, ?"
+          + " FROM payments p JOIN payment_items i ON i.payment_id = p.payment_id"
+          + " WHERE p.org_approved_date = ? AND p.rolled_up = TRUE"
+          + " GROUP BY p.org_approved_date, p.terminal_id, COALESCE(p.kiosk_id, 0), i.product_id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** 일자 잠금 행을 날짜순으로 잠근다. (트랜잭션 종료까지 유지, 잠금 순서가 같아 교착 없음) */
+  public void lockDays(Collection<LocalDate> dates) {
+    List<LocalDate> ordered = List.copyOf(new TreeSet<>(dates));
+    if (ordered.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        LOCK_DAY, ordered, ordered.size(), (ps, date) -> ps.setObject(1, date));
+  }
+
+  /**
+   * 아직 집계에 반영되지 않은 결제를 반영됨으로 표시한다. 해당 일자를 {@link #lockDays}로 잠근 트랜잭션 안에서 호출해야 한다.
+   *
+   * @return 이번에 표시한 payment_id (이미 재생성에 포함된 결제는 빠짐)
+   */
+  public Set<Long> markRolledUp(Collection<Long> paymentIds) {
+    if (paymentIds.isEmpty()) {
+      return Set.of();
+    }
+    Set<Long> pending =
+        new HashSet<>(
+            jdbcTemplate.queryForList(
+                SELECT_NOT_ROLLED_UP.formatted(placeholders(paymentIds.size())),
+                Long.class,
+                paymentIds.toArray()));
+    if (!pending.isEmpty()) {
+      jdbcTemplate.update(
+          MARK_ROLLED_UP.formatted(placeholders(pending.size())), pending.toArray());
+    }
+    return pending;
+  }
+
+  /** 증분을 누적한다. (키가 없으면 생성) */
+  public void upsert(List<RollupDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.batchUpdate(
+        UPSERT,
+        deltas,
+        deltas.size(),
+        (ps, d) -> {
+          ps.setObject(1, d.salesDate());
+          ps.setString(2, d.terminalId());
+          ps.setLong(3, d.kioskId());
+          ps.setLong(4, d.productId());
+          ps.setLong(5, d.paymentCount());
+          ps.setLong(6, d.grossAmount());
+          ps.setLong(7, d.vatAmount());
+          ps.setLong(8, d.svcAmount());
+          ps.setObject(9, now);
+          ps.setObject(10, now);
+        });
+  }
+
+  /**
+   * 하루치 집계를 payments 원본에서 다시 만든다. 호출 측 트랜잭션 안에서 실행해야 잠금/삭제/생성이 한 번에 반영된다.
+   *
+   * <p>일자를 잠근 뒤 그 시점까지 커밋된 결제를 모두 반영됨으로 표시하고 표시된 결제만 집계한다. 이후에 커밋된 결제는 표시되지 않았으므로 증분
+   * 반영({@link #markRolledUp})이 더한다.
+   *
+   * @return 생성된 집계 행 수
+   */
+  public int rebuildDay(LocalDate date) {
+    lockDays(List.of(date));
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.update(MARK_DAY_ROLLED_UP, date);
+    jdbcTemplate.update(DELETE_DAY, date);
+    return jdbcTemplate.update(REBUILD_TOTALS, now, now, date)
+        + jdbcTemplate.update(REBUILD_PRODUCTS, now, now, date);
+  }
+
+  /** ?, ?, ... (IN 절용) */
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+}
@@ -0,0 +1,17 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.repository;
+
+import java.time.LocalDate;
+
+/** 집계 행에 더할 증분 (유니크 키 + 누적값) */
+public record RollupDelta(
+    LocalDate salesDate,
+    String terminalId,
+    long kioskId,
+    long productId,
+    long paymentCount,
+    long grossAmount,
+    long vatAmount,
+    long svcAmount) {}
@@ -0,0 +1,226 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wit.payment.domain.pay.event.PaymentsRecordedEvent;
+import com.wit.payment.domain.pay.event.PaymentsRecordedEvent.RecordedPayment;
+import com.wit.payment.domain.sales.dto.response.DailySalesResponse;
+import com.wit.payment.domain.sales.dto.response.ProductSalesResponse;
+import com.wit.payment.domain.sales.dto.response.RollupBackfillResponse;
+import com.wit.payment.domain.sales.entity.PaymentDailyRollup;
+import com.wit.payment.domain.sales.exception.SalesErrorCode;
+import com.wit.payment.domain.sales.repository.PaymentDailyRollupRepository;
+import com.wit.payment.domain.sales.repository.PaymentRollupJdbcRepository;
+import com.wit.payment.domain.sales.repository.RollupDelta;
+import com.wit.payment.global.exception.CustomException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일별 매출 집계.
+ *
+ * <p>결제 보고 트랜잭션이 커밋되면 해당 결제들의 증분을 별도 트랜잭션으로 누적한다. 누적에 실패해도 결제에는 영향이 없고, 해당 일자를 {@link
+ * #backfill(LocalDate, LocalDate)}로 다시 만들면 원본과 맞춰진다.
+ *
+ * <p>증분 반영과 재생성은 일자 잠금으로 직렬화되고, 결제마다 반영 여부를 표시하므로 결제 커밋과 증분 반영 사이에 같은 일자를 재생성해도 중복/누락이
+ * 없다. ({@link PaymentRollupJdbcRepository})
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+  /** 조회/재생성 기간 최대 일수 */
+  private static final int MAX_RANGE_DAYS = 366;
+
+  /** 재생성 한 번에 처리하는 최대 일수. 요청 스레드와 DB를 오래 잡지 않도록 나머지는 nextFrom으로 이어서 호출한다. */
+  private static final int MAX_BACKFILL_DAYS_PER_CALL = 31;
+
+  /** 기간 미지정 시 기본 조회 일수 */
+  private static final int DEFAULT_RANGE_DAYS = 30;
+
+  private final PaymentDailyRollupRepository rollupRepository;
+  private final PaymentRollupJdbcRepository rollupJdbcRepository;
+  private final TransactionTemplate requiresNew;
+
+  public SalesRollupService(
+      PaymentDailyRollupRepository rollupRepository,
+      PaymentRollupJdbcRepository rollupJdbcRepository,
+      PlatformTransactionManager transactionManager) {
+    this.rollupRepository = rollupRepository;
+    this.rollupJdbcRepository = rollupJdbcRepository;
+    this.requiresNew = new TransactionTemplate(transactionManager);
+    this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /** 결제 저장 커밋 이후 증분 반영 (실패는 로그만 남기고 결제 응답에는 영향 없음) */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onPaymentsRecorded(PaymentsRecordedEvent event) {
+    List<RecordedPayment> payments = event.payments();
+    try {
+      requiresNew.executeWithoutResult(status -> apply(payments));
+    } catch (RuntimeException e) {
+      log.error(
+          "[SALES] 매출 집계 반영 실패 (backfill 필요) - payments={}, dates={}, ex={}",
+          payments.size(),
+          payments.stream().map(RecordedPayment::approvedDate).distinct().toList(),
+          e.toString());
+    }
+  }
+
+  /**
+   * [from, to] 기간의 집계를 payments 원본에서 하루씩 다시 만든다. 일자마다 별도 트랜잭션으로 처리하므로 중간에 실패해도 앞선 일자는 반영된다.
+   *
+   * <p>한 번에 최대 31일까지만 처리하고, 남은 기간이 있으면 응답의 nextFrom을 from으로 다시 호출한다.
+   */
+  public RollupBackfillResponse backfill(LocalDate from, LocalDate to) {
+    validateRange(from, to);
+
+    LocalDate end = from.plusDays(MAX_BACKFILL_DAYS_PER_CALL - 1L);
+    if (end.isAfter(to)) {
+      end = to;
+    }
+
+    long rows = 0;
+    int days = 0;
+    for (LocalDate day = from; !day.isAfter(end); day = day.plusDays(1)) {
+      LocalDate target = day;
+      Integer created = requiresNew.execute(status -> rollupJdbcRepository.rebuildDay(target));
+      rows += created == null ? 0 : created;
+      days++;
+    }
+    LocalDate nextFrom = end.isBefore(to) ? end.plusDays(1) : null;
+
+    log.info(
+        "[SALES] 매출 집계 재생성 완료 - from={}, to={}, days={}, rows={}, nextFrom={}",
+        from,
+        end,
+        days,
+        rows,
+        nextFrom);
+
+    return RollupBackfillResponse.builder()
+        .from(from)
+        .to(end)
+        .days(days)
+        .rows(rows)
+        .nextFrom(nextFrom)
+        .build();
+  }
+
+  /** [조회] 일별 매출 합계 (기간 미지정 시 최근 30일) */
+  @Transactional(readOnly = true)
+  public List<DailySalesResponse> getDailySales(
+      LocalDate from, LocalDate to, String terminalId, Long kioskId) {
+    LocalDate end = to != null ? to : LocalDate.now();
+    LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+    validateRange(start, end);
+
+    return rollupRepository.sumDaily(start, end, blankToNull(terminalId), kioskId);
+  }
+
+  /** [조회] 상품별 판매 건수 (기간 미지정 시 최근 30일) */
+  @Transactional(readOnly = true)
+  public List<ProductSalesResponse> getProductSales(
+      LocalDate from, LocalDate to, String terminalId, Long kioskId) {
+    LocalDate end = to != null ? to : LocalDate.now();
+    LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+    validateRange(start, end);
+
+    return rollupRepository.sumByProduct(start, end, blankToNull(terminalId), kioskId);
+  }
+
+  /** 일자를 잠그고, 아직 반영되지 않은 결제(그사이 재생성에 포함되지 않은 결제)만 누적한다. */
+  private void apply(List<RecordedPayment> payments) {
+    rollupJdbcRepository.lockDays(
+        payments.stream().map(RecordedPayment::approvedDate).collect(Collectors.toSet()));
+    Set<Long> marked =
+        rollupJdbcRepository.markRolledUp(
+            payments.stream().map(RecordedPayment::paymentId).toList());
+
+    List<RecordedPayment> pending =
+        payments.stream().filter(p -> marked.contains(p.paymentId())).toList();
+    if (pending.size() < payments.size()) {
+      log.info(
+          "[SALES] 재생성에 이미 포함된 결제 제외 - payments={}, skipped={}",
+          payments.size(),
+          payments.size() - pending.size());
+    }
+    rollupJdbcRepository.upsert(toDeltas(pending));
+  }
+
+  /**
+   * 결제 목록 → 키별 증분. 같은 키는 하나로 합치고, 여러 보고가 동시에 반영될 때 행 잠금 순서가 같도록 키 순으로 정렬한다. (교착 방지)
+   */
+  private static List<RollupDelta> toDeltas(List<RecordedPayment> payments) {
+    Map<Key, long[]> sums = new HashMap<>();
+    for (RecordedPayment p : payments) {
+      long kioskId = p.kioskId() != null ? p.kioskId() : PaymentDailyRollup.UNKNOWN_KIOSK;
+
+      long[] total =
+          sums.computeIfAbsent(
+              new Key(p.approvedDate(), p.terminalId(), kioskId, PaymentDailyRollup.ALL_PRODUCTS),
+              k -> new long[4]);
+      total[0]++;
+      total[1] += p.amount();
+      total[2] += p.vatAmount();
+      total[3] += p.svcAmount();
+
+      for (Long productId : p.productIds()) {
+        Key key = new Key(p.approvedDate(), p.terminalId(), kioskId, productId);
+        sums.computeIfAbsent(key, k -> new long[4])[0]++;
+      }
+    }
+
+    return sums.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey(Key.ORDER))
+        .map(
+            e -> {
+              Key k = e.getKey();
+              long[] v = e.getValue();
+              return new RollupDelta(
+                  k.date(), k.terminalId(), k.kioskId(), k.productId(), v[0], v[1], v[2], v[3]);
+            })
+        .toList();
+  }
+
+  private static void validateRange(LocalDate from, LocalDate to) {
+    if (from == null || to == null || from.isAfter(to)) {
+      throw new CustomException(SalesErrorCode.INVALID_DATE_RANGE);
+    }
+    if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+      throw new CustomException(SalesErrorCode.DATE_RANGE_TOO_LARGE);
+    }
+  }
+
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value.trim();
+  }
+
+  // 집계 행 유니크 키
+  private record Key(LocalDate date, String terminalId, long kioskId, long productId) {
+
+    static final Comparator<Key> ORDER =
+        Comparator.comparing(Key::date)
+            .thenComparing(Key::terminalId)
+            .thenComparingLong(Key::kioskId)
+            .thenComparingLong(Key::productId);
+  }
+}
@@ -0,0 +1,24 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class CacheConfig {
+
+  /** 캐시 무효화 채널 구독 */
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory connectionFactory, TwoTierCacheManager cacheManager) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.CHANNEL));
+    return container;
+  }
+}
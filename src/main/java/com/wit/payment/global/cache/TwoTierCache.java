@@ -0,0 +1,153 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬(Caffeine) → Redis → 원본 순으로 조회하는 2단 캐시. {@link TwoTierCacheManager#create}로 만든다.
+ *
+ * <p>Redis 키에는 세대(generation) 번호가 붙는다. 전체 무효화는 세대 카운터를 INCR 해서 이전 키를 한 번에 버리고(TTL로 정리), pub/sub으로
+ * 다른 인스턴스의 로컬 캐시를 비운다. 로컬 캐시가 비어 있을 때마다 세대를 Redis에서 다시 읽으므로 메시지를 놓친 인스턴스도 로컬 TTL 이후에는 최신 값을
+ * 본다.
+ *
+ * <p>원본을 읽는 사이에 무효화가 끼어들면 읽은 값은 무효화 이전 데이터일 수 있으므로 반환만 하고 캐시에는 남기지 않는다. (로컬 세대 비교)
+ *
+ * <p>Redis 장애 시에는 캐시 미스로 간주하고 원본을 조회한다. (요청은 실패하지 않음)
+ */
+@Slf4j
+public final class TwoTierCache<V> {
+
+  @Getter private final String name;
+  private final Class<V> type;
+  private final Cache<String, V> local; // null 이면 로컬 캐시 없음
+  private final Duration redisTtl;
+  private final StringRedisTemplate redis;
+  private final ObjectMapper objectMapper;
+  private final TwoTierCacheManager manager;
+  private final List<Runnable> invalidationListeners = new CopyOnWriteArrayList<>();
+
+  /** 이 인스턴스에서 무효화(로컬/수신)가 일어날 때마다 증가 */
+  private final AtomicLong localGeneration = new AtomicLong();
+
+  TwoTierCache(
+      String name,
+      Class<V> type,
+      long localMaxSize,
+      Duration localTtl,
+      Duration redisTtl,
+      StringRedisTemplate redis,
+      ObjectMapper objectMapper,
+      TwoTierCacheManager manager) {
+    this.name = name;
+    this.type = type;
+    this.local =
+        localMaxSize > 0
+            ? Caffeine.newBuilder().maximumSize(localMaxSize).expireAfterWrite(localTtl).build()
+            : null;
+    this.redisTtl = redisTtl;
+    this.redis = redis;
+    this.objectMapper = objectMapper;
+    this.manager = manager;
+  }
+
+  /** 캐시된 값 또는 loader 결과. loader가 null을 반환하면 캐시하지 않는다. */
+  public V get(String key, Supplier<V> loader) {
+    if (local != null) {
+      V cached = local.getIfPresent(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    long generation = localGeneration.get();
+    String redisKey = redisKey(key);
+    V value = redisKey != null ? readRedis(redisKey) : null;
+    if (value == null) {
+      value = loader.get();
+      if (value != null && redisKey != null && generation == localGeneration.get()) {
+        writeRedis(redisKey, value);
+      }
+    }
+    if (value != null && local != null && generation == localGeneration.get()) {
+      local.put(key, value);
+      // 확인과 put 사이에 무효화가 끼어들 수 있으므로 넣은 뒤에 다시 본다. (onInvalidated는 세대를 올린 다음 비움)
+      if (generation != localGeneration.get()) {
+        local.asMap().remove(key, value);
+      }
+    }
+    return value;
+  }
+
+  /** 전체 무효화: 세대를 올리고 모든 인스턴스의 로컬 캐시를 비운다. */
+  public void invalidateAll() {
+    try {
+      redis.opsForValue().increment(generationKey());
+    } catch (RuntimeException e) {
+      log.warn("[CACHE] 세대 증가 실패 - cache={}, ex={}", name, e.toString());
+    }
+    onInvalidated();
+    manager.publishInvalidation(name);
+  }
+
+  /** 무효화 시 함께 실행할 작업 (예: 이 캐시로 만든 파생 데이터 정리) */
+  public void addInvalidationListener(Runnable listener) {
+    invalidationListeners.add(listener);
+  }
+
+  /** 로컬 무효화 (다른 인스턴스의 무효화 메시지 수신 시에도 호출) */
+  void onInvalidated() {
+    localGeneration.incrementAndGet();
+    if (local != null) {
+      local.invalidateAll();
+    }
+    invalidationListeners.forEach(Runnable::run);
+  }
+
+  /** cache:{name}:{generation}:{key}. Redis를 쓸 수 없으면 null */
+  private String redisKey(String key) {
+    try {
+      String generation = redis.opsForValue().get(generationKey());
+      return "cache:" + name + ":" + (generation == null ? "0" : generation) + ":" + key;
+    } catch (RuntimeException e) {
+      log.warn("[CACHE] Redis 조회 실패, 원본 조회로 대체 - cache={}, ex={}", name, e.toString());
+      return null;
+    }
+  }
+
+  private String generationKey() {
+    return "cache:" + name + ":gen";
+  }
+
+  private V readRedis(String redisKey) {
+    try {
+      String json = redis.opsForValue().get(redisKey);
+      return json == null ? null : objectMapper.readValue(json, type);
+    } catch (Exception e) {
+      log.warn("[CACHE] Redis 값 읽기 실패 - key={}, ex={}", redisKey, e.toString());
+      return null;
+    }
+  }
+
+  private void writeRedis(String redisKey, V value) {
+    try {
+      redis.opsForValue().set(redisKey, objectMapper.writeValueAsString(value), redisTtl);
+    } catch (Exception e) {
+      log.warn("[CACHE] Redis 값 저장 실패 - key={}, ex={}", redisKey, e.toString());
+    }
+  }
+}
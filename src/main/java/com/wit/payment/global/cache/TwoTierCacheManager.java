@@ -0,0 +1,79 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link TwoTierCache} 생성/등록과 인스턴스 간 무효화 메시지(pub/sub) 처리.
+ *
+ * <p>메시지 형식은 {@code <cacheName>|<instanceId>}이며, 자기 자신이 보낸 메시지는 무시한다. (이미 로컬에서 무효화함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwoTierCacheManager implements MessageListener {
+
+  public static final String CHANNEL = "cache:invalidate";
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final Map<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+
+  private final StringRedisTemplate redis;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * @param localMaxSize 로컬 캐시 최대 항목 수 (0 이면 로컬 캐시 없이 Redis만 사용)
+   * @param localTtl 로컬 항목 유지 시간 (무효화 메시지를 놓친 경우의 최대 지연)
+   * @param redisTtl Redis 항목 유지 시간
+   */
+  public <V> TwoTierCache<V> create(
+      String name, Class<V> type, long localMaxSize, Duration localTtl, Duration redisTtl) {
+    TwoTierCache<V> cache =
+        new TwoTierCache<>(
+            name, type, localMaxSize, localTtl, redisTtl, redis, objectMapper, this);
+    if (caches.putIfAbsent(name, cache) != null) {
+      throw new IllegalStateException("duplicate cache name: " + name);
+    }
+    return cache;
+  }
+
+  void publishInvalidation(String name) {
+    try {
+      redis.convertAndSend(CHANNEL, name + "|" + instanceId);
+    } catch (RuntimeException e) {
+      log.warn("[CACHE] 무효화 메시지 발행 실패 - cache={}, ex={}", name, e.toString());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int sep = body.lastIndexOf('|');
+    String name = sep < 0 ? body : body.substring(0, sep);
+    if (sep >= 0 && instanceId.equals(body.substring(sep + 1))) {
+      return;
+    }
+
+    TwoTierCache<?> cache = caches.get(name);
+    if (cache != null) {
+      cache.onInvalidated();
+      log.info("[CACHE] 다른 인스턴스 무효화 반영 - cache={}", name);
+    }
+  }
+}
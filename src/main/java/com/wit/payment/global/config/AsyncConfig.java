@@ -0,0 +1,52 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+  /** 외부 API(SMS 등) 호출용. 블로킹 I/O 대기가 대부분이라 작업마다 가상 스레드를 쓴다. */
+  @Bean(destroyMethod = "close")
+  public ExecutorService smsDispatchExecutor() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sms-", 0).factory());
+  }
+
+  /**
+   * 이미지 디코딩/WebP 인코딩용. CPU 작업이라 코어 수만큼만 동시에 돌리고, 큐가 차면 요청 스레드가 직접 처리한다. (디코딩된 이미지가 메모리를
+   * 많이 쓰므로 동시 처리 수를 묶어 둔다)
+   */
+  @Bean(destroyMethod = "close")
+  public ExecutorService imageEncodeExecutor(
+      @Value("${image.encode.threads:0}") int threads,
+      @Value("${image.encode.queue-capacity:32}") int queueCapacity) {
+    int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new ThreadPoolExecutor(
+        size,
+        size,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        Thread.ofPlatform().name("image-encode-", 0).daemon(true).factory(),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /** S3 업로드/삭제용. 네트워크 대기가 대부분이라 작업마다 가상 스레드를 쓴다. */
+  @Bean(destroyMethod = "close")
+  public ExecutorService imageUploadExecutor() {
+    return Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("image-upload-", 0).factory());
+  }
+}
@@ -5,6 +5,7 @@ package com.wit.payment.global.config;
 
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -28,6 +29,9 @@ public class SecurityConfig {
   private final CorsConfig corsConfig;
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+  @Value("${management.server.port:-1}")
+  private int managementPort;
+
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
     http.csrf(AbstractHttpConfigurer::disable)
@@ -87,6 +91,7 @@ public class SecurityConfig {
                         "/api/categories/{category-id}/products",
                         "/api/categories",
                         "/api/categories/first",
+                        "/api/menu",
                         "/api/tl3800/*",
                         "/api/pay/*")
                     .permitAll()
@@ -94,6 +99,7 @@ public class SecurityConfig {
                     // 로컬 결제 서버 → 중앙 서버용 내부 콜 (성공/실패/취소 보고)
                     .requestMatchers(
                         "/api/pay/success",
+                        "/api/pay/success/batch",
                         "/api/pay/failure",
                         "/api/pay/{paymentId}/info",
                         "/api/pay/cancel/report")
@@ -102,6 +108,16 @@ public class SecurityConfig {
                     // 웹용 API
                     .requestMatchers("/api/pay/phone", "/api/pay/options")
                     .permitAll()
+
+                    // 모니터링: 헬스 체크만 공개, 나머지 Actuator(Prometheus 스크랩 등)는
+                    // 외부에 열지 않는 관리 포트(management.server.port)로 들어온 요청만 허용
+                    .requestMatchers("/actuator/health")
+                    .permitAll()
+                    .requestMatchers(
+                        request -> managementPort > 0 && request.getLocalPort() == managementPort)
+                    .permitAll()
+                    .requestMatchers("/actuator/**")
+                    .hasRole("ADMIN")
                     .requestMatchers("/api/admin/**")
                     .hasRole("ADMIN")
                     .anyRequest()
@@ -0,0 +1,28 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+  /**
+   * 비동기 응답(StreamingResponseBody 등) 제한 시간. 컨테이너 기본값에 맡기지 않고 명시한다.
+   *
+   * <p>결제 내역 내보내기는 응답을 다 쓸 때까지 DB 커넥션을 잡고 있으므로, 시간이 넘으면 스트리밍 작업을 인터럽트하고 연결을 끊는다.
+   */
+  @Value("${web.async.request-timeout:10m}")
+  private Duration asyncRequestTimeout;
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+  }
+}
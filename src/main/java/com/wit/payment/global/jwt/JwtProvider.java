@@ -18,6 +18,7 @@ import com.wit.payment.global.exception.CustomException;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -31,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtProvider {
 
   private Key key;
+  private JwtParser parser; // 서명 키가 고정이라 한 번만 만들어 재사용 (thread-safe)
   private final String secretKey;
 
   @Getter private final long accessTokenExpireTime;
@@ -50,6 +52,7 @@ public class JwtProvider {
   public void init() {
     byte[] keyBytes = Base64.getDecoder().decode(secretKey);
     this.key = Keys.hmacShaKeyFor(keyBytes);
+    this.parser = Jwts.parserBuilder().setSigningKey(key).build();
   }
 
   /**
@@ -108,9 +111,18 @@ public class JwtProvider {
    * @throws CustomException 유효하지 않은 토큰 유형/형식/서명/만료 등
    */
   public boolean validateToken(String token) {
+    parseVerifiedClaims(token);
+    return true;
+  }
+
+  /**
+   * 서명/만료를 검증하고 Claims를 반환합니다. 여러 값을 꺼낼 때는 extract* 대신 이 메서드로 한 번만 파싱합니다.
+   *
+   * @throws CustomException 유효하지 않은 토큰 유형/형식/서명/만료 등
+   */
+  public Claims parseVerifiedClaims(String token) {
     try {
-      parseClaims(token);
-      return true;
+      return parseClaims(token);
     } catch (ExpiredJwtException e) {
       throw new CustomException(AuthErrorCode.JWT_TOKEN_EXPIRED);
     } catch (UnsupportedJwtException e) {
@@ -151,6 +163,6 @@ public class JwtProvider {
 
   /** 내부적으로 JWT Claims를 파싱합니다. */
   private Claims parseClaims(String token) {
-    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    return parser.parseClaimsJws(token).getBody();
   }
 }
@@ -0,0 +1,53 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.monitoring;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+@Configuration
+public class MetricsConfig {
+
+  /** SLO 대상 타이머 (Prometheus histogram_quantile로 분위수를 계산할 수 있도록 버킷을 내보낸다) */
+  private static final List<String> SLO_TIMERS =
+      List.of(
+          "http.server.requests",
+          "pay.report",
+          "sms.send",
+          "security.jwt.authentication",
+          "tl3800.parse");
+
+  /** 모든 지표에 application 태그 (여러 서비스를 같은 Prometheus에서 구분) */
+  @Bean
+  public MeterRegistryCustomizer<MeterRegistry> commonTags(
+      @Value("${spring.application.name:payment}") String application) {
+    return registry -> registry.config().commonTags("application", application);
+  }
+
+  @Bean
+  public MeterFilter sloHistograms() {
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(
+          Meter.Id id, DistributionStatisticConfig config) {
+        if (SLO_TIMERS.contains(id.getName())) {
+          return DistributionStatisticConfig.builder()
+              .percentilesHistogram(true)
+              .build()
+              .merge(config);
+        }
+        return config;
+      }
+    };
+  }
+}
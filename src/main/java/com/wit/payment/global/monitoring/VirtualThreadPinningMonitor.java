@@ -0,0 +1,125 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.monitoring;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 pinning 감지 (JFR jdk.VirtualThreadPinned).
+ *
+ * <p>가상 스레드가 synchronized 블록/네이티브 프레임 안에서 블로킹되면 캐리어 스레드를 붙잡아(pinning) 다른 가상 스레드가 실행되지 못한다. 임계값
+ * 이상 pinning된 건을 {@code jvm.threads.virtual.pinned} 카운터/타이머로 내보내고, 처음 보는 위치(최상위 애플리케이션 프레임)는 스택과
+ * 함께 한 번만 경고 로그를 남긴다. 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String EVENT = "jdk.VirtualThreadPinned";
+  private static final int MAX_REPORTED_SITES = 200;
+  private static final int LOGGED_FRAMES = 12;
+
+  private final Counter pinnedCount;
+  private final Timer pinnedDuration;
+  private final Duration threshold;
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${monitoring.virtual-thread-pinning.threshold-ms:20}") long thresholdMillis) {
+    this.threshold = Duration.ofMillis(thresholdMillis);
+    this.pinnedCount =
+        Counter.builder("jvm.threads.virtual.pinned")
+            .description("임계값 이상 캐리어 스레드를 붙잡은 가상 스레드 pinning 횟수")
+            .register(meterRegistry);
+    this.pinnedDuration =
+        Timer.builder("jvm.threads.virtual.pinned.duration")
+            .description("가상 스레드 pinning 지속 시간")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    try {
+      RecordingStream rs = new RecordingStream();
+      rs.enable(EVENT).withThreshold(threshold).withStackTrace();
+      rs.onEvent(EVENT, this::onPinned);
+      rs.startAsync();
+      stream = rs;
+      log.info("[MONITOR] 가상 스레드 pinning 감지 시작 - threshold={}ms", threshold.toMillis());
+    } catch (RuntimeException e) {
+      // JFR을 쓸 수 없는 런타임 - 감지만 끄고 기동은 계속한다
+      log.warn("[MONITOR] 가상 스레드 pinning 감지 비활성화 - ex={}", e.toString());
+    }
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream rs = stream;
+    stream = null;
+    if (rs != null) {
+      rs.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedCount.increment();
+    pinnedDuration.record(event.getDuration());
+
+    List<RecordedFrame> frames =
+        event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+    String site = applicationSite(frames);
+    if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+      StringBuilder stack = new StringBuilder();
+      for (RecordedFrame frame : frames.subList(0, Math.min(LOGGED_FRAMES, frames.size()))) {
+        stack.append("\n\tat ").append(frameName(frame)).append(':').append(frame.getLineNumber());
+      }
+      log.warn(
+          "[MONITOR] 가상 스레드 pinning - site={}, duration={}ms{}",
+          site,
+          event.getDuration().toMillis(),
+          stack);
+    }
+  }
+
+  /** 최상위 애플리케이션 프레임 (없으면 최상위 프레임) */
+  private static String applicationSite(List<RecordedFrame> frames) {
+    for (RecordedFrame frame : frames) {
+      String name = frameName(frame);
+      if (name.startsWith("com.wit.")) {
+        return name;
+      }
+    }
+    return frames.isEmpty() ? "unknown" : frameName(frames.get(0));
+  }
+
+  private static String frameName(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+  }
+}
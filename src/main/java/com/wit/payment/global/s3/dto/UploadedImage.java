@@ -0,0 +1,12 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.dto;
+
+/** 크기별 사본까지 업로드된 이미지의 URL 묶음 (contentHash로 stored_image 참조) */
+public record UploadedImage(
+    String contentHash,
+    String keyBase,
+    String imageUrl,
+    String smallImageUrl,
+    String mediumImageUrl) {}
@@ -0,0 +1,26 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 업로드 시 함께 만드는 이미지 크기별 사본. 긴 변 기준으로 축소하며, 원본이 더 작으면 원본을 그대로 쓴다. */
+@Getter
+@AllArgsConstructor
+public enum ImageRendition {
+  ORIGINAL(0, ""), // 원본 크기
+  SMALL(160, "_160"), // 키오스크 목록 썸네일
+  MEDIUM(480, "_480"); // 키오스크 상세 화면
+
+  /** 긴 변 최대 픽셀 (0 = 원본 유지) */
+  private final int maxSize;
+
+  private final String suffix;
+
+  /** keyBase(경로/UUID)에 해당하는 S3 keyName */
+  public String keyName(String keyBase) {
+    return keyBase + suffix + ".webp";
+  }
+}
@@ -0,0 +1,64 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.wit.payment.global.common.BaseTimeEntity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 기반(SHA-256)으로 저장된 이미지와 참조 수.
+ *
+ * <p>같은 원본 + 같은 인코딩 설정이면 같은 contentHash가 되어 변환/업로드 없이 기존 객체를 참조한다. 참조가 0이 되면 행을 지우고, 커밋 이후 S3
+ * 객체(크기별 사본 포함)를 삭제한다. keyBase에는 해시 뒤에 세대 접미사가 붙어 있어서, 삭제 중인 객체와 같은 내용을 다시 올려도 key가 겹치지 않는다.
+ */
+@Getter
+@Entity
+@Table(
+    name = "stored_image",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_stored_image_hash", columnNames = "content_hash"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(toBuilder = true)
+public class StoredImage extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "stored_image_id")
+  private Long id;
+
+  /** SHA-256(원본 바이트 + 인코딩 설정), hex 64자 */
+  @Column(name = "content_hash", length = 64, nullable = false)
+  private String contentHash;
+
+  /** S3 keyName 접두어 (경로/해시-세대). 사본 key는 {@link ImageRendition#keyName(String)} */
+  @Column(name = "key_base", nullable = false)
+  private String keyBase;
+
+  @Column(name = "image_url", nullable = false)
+  private String imageUrl;
+
+  @Column(name = "small_image_url", nullable = false)
+  private String smallImageUrl;
+
+  @Column(name = "medium_image_url", nullable = false)
+  private String mediumImageUrl;
+
+  /** 이 이미지를 참조하는 행 수 */
+  @Column(name = "ref_count", nullable = false)
+  private int refCount;
+}
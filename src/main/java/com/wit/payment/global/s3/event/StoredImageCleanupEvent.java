@@ -0,0 +1,14 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.event;
+
+import java.util.List;
+
+/**
+ * 트랜잭션 결과에 따라 지울 S3 객체(keyBase 단위, 크기별 사본 포함).
+ *
+ * @param onCommit 커밋되면 삭제 (참조가 0이 된 이미지, 동시 업로드에 밀린 중복 업로드)
+ * @param onRollback 롤백되면 삭제 (이번 트랜잭션에서 새로 올린 이미지)
+ */
+public record StoredImageCleanupEvent(List<String> onCommit, List<String> onRollback) {}
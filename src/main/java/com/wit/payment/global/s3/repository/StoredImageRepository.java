@@ -0,0 +1,63 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.wit.payment.global.s3.entity.StoredImage;
+
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+
+  @Query(
+      """
+          SELECT new com.wit.payment.global.s3.repository.StoredImageRow(
+              s.contentHash, s.keyBase, s.imageUrl, s.smallImageUrl, s.mediumImageUrl, s.refCount)
+          FROM StoredImage s
+          WHERE s.contentHash IN :hashes
+      """)
+  List<StoredImageRow> findRowsByContentHashIn(@Param("hashes") Collection<String> hashes);
+
+  /** 참조 1 추가. 행이 없으면(그 사이 삭제된 경우 포함) 0을 반환한다. */
+  @Modifying
+  @Query("UPDATE StoredImage s SET s.refCount = s.refCount + 1 WHERE s.contentHash = :hash")
+  int addReference(@Param("hash") String hash);
+
+  /** 새로 올린 이미지의 참조 1 추가. 행이 없으면 주어진 값으로 만들고, 이미 있으면(동시 업로드) 기존 행의 참조 수만 올린다. */
+  @Modifying
+  @Query(
+      value =
+          """
+              INSERT INTO stored_image
+                  (content_hash, key_base, image_url, small_image_url, medium_image_url,
+                   ref_count, created_at, updated_at)
+              VALUES
+                  (:hash, :keyBase, :imageUrl, :smallImageUrl, :mediumImageUrl,
+                   1, NOW(6), NOW(6))
+              ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = NOW(6)
+          """,
+      nativeQuery = true)
+  int insertOrAddReference(
+      @Param("hash") String hash,
+      @Param("keyBase") String keyBase,
+      @Param("imageUrl") String imageUrl,
+      @Param("smallImageUrl") String smallImageUrl,
+      @Param("mediumImageUrl") String mediumImageUrl);
+
+  /** 참조 1 감소. (행 잠금은 커밋까지 유지되므로 같은 해시의 동시 참조 추가는 대기한다) */
+  @Modifying
+  @Query(
+      "UPDATE StoredImage s SET s.refCount = s.refCount - 1"
+          + " WHERE s.contentHash = :hash AND s.refCount > 0")
+  int removeReference(@Param("hash") String hash);
+
+  @Modifying
+  @Query("DELETE FROM StoredImage s WHERE s.contentHash IN :hashes AND s.refCount = 0")
+  int deleteUnreferenced(@Param("hashes") Collection<String> hashes);
+}
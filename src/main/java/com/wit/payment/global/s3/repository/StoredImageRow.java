@@ -0,0 +1,20 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.repository;
+
+import com.wit.payment.global.s3.dto.UploadedImage;
+
+/** stored_image 조회용 프로젝션 (영속성 컨텍스트를 거치지 않아 항상 최신 값) */
+public record StoredImageRow(
+    String contentHash,
+    String keyBase,
+    String imageUrl,
+    String smallImageUrl,
+    String mediumImageUrl,
+    int refCount) {
+
+  public UploadedImage toUploadedImage() {
+    return new UploadedImage(contentHash, keyBase, imageUrl, smallImageUrl, mediumImageUrl);
+  }
+}
@@ -0,0 +1,165 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.wit.payment.global.exception.CustomException;
+import com.wit.payment.global.s3.dto.UploadedImage;
+import com.wit.payment.global.s3.entity.ImageRendition;
+import com.wit.payment.global.s3.entity.PathName;
+import com.wit.payment.global.s3.exception.S3ErrorCode;
+import com.wit.payment.global.s3.mapper.S3Mapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 이미지를 동시에 WebP 변환 후 S3에 업로드한다. 이미지마다 {@link ImageRendition} 크기별 사본을 함께 올린다.
+ *
+ * <p>인코딩은 코어 수로 묶인 imageEncodeExecutor에서, 업로드는 가상 스레드에서 돌린다. 인코딩 스레드마다 디코딩된
+ * 이미지와 WebP 결과 byte[]를 들고 있고({@link S3Service#uploadRenditions}), 업로드 대기 버퍼는 {@link
+ * S3StreamUploader}의 한도로 묶인다. 결과는 입력 순서 그대로 돌려주고, 하나라도 실패하면 나머지 작업이 끝나기를 기다린 뒤 이미 올라간
+ * 파일을 모두 지우고 첫 번째 실패를 던진다.
+ */
+@Slf4j
+@Component
+public class ImageUploadPipeline {
+
+  private final S3Service s3Service;
+  private final S3Mapper s3Mapper;
+  private final ExecutorService encodeExecutor;
+  private final ExecutorService uploadExecutor;
+
+  public ImageUploadPipeline(
+      S3Service s3Service,
+      S3Mapper s3Mapper,
+      @Qualifier("imageEncodeExecutor") ExecutorService encodeExecutor,
+      @Qualifier("imageUploadExecutor") ExecutorService uploadExecutor) {
+    this.s3Service = s3Service;
+    this.s3Mapper = s3Mapper;
+    this.encodeExecutor = encodeExecutor;
+    this.uploadExecutor = uploadExecutor;
+  }
+
+  /**
+   * 파일별 내용 해시를 동시에 계산하고, 입력 순서대로 반환한다.
+   *
+   * @throws CustomException 검증/읽기 실패
+   */
+  public List<String> hashAll(List<MultipartFile> files) {
+    List<CompletableFuture<String>> hashes = new ArrayList<>(files.size());
+    for (MultipartFile file : files) {
+      hashes.add(CompletableFuture.supplyAsync(() -> s3Service.contentHash(file), encodeExecutor));
+    }
+
+    RuntimeException failure = awaitAll(hashes);
+    if (failure != null) {
+      throw failure;
+    }
+    return hashes.stream().map(CompletableFuture::join).toList();
+  }
+
+  /**
+   * 내용 해시별 파일을 크기별 사본까지 모두 업로드한다.
+   *
+   * @return 내용 해시별 업로드 결과 (입력 순서 유지)
+   * @throws CustomException 변환/업로드 중 첫 번째 실패 (이미 업로드된 파일은 삭제됨)
+   */
+  public Map<String, UploadedImage> uploadAll(PathName pathName, Map<String, MultipartFile> files) {
+    if (files.isEmpty()) {
+      return Map.of();
+    }
+
+    // 이미지마다 인코딩 스레드에서 디코딩/인코딩하고, 출력은 업로드 스레드가 사본별로 S3에 올린다.
+    List<String> keyBases = new ArrayList<>(files.size());
+    Map<String, CompletableFuture<UploadedImage>> uploads = new LinkedHashMap<>();
+    files.forEach(
+        (hash, file) -> {
+          String keyBase = s3Service.createKeyBase(pathName, hash);
+          keyBases.add(keyBase);
+          uploads.put(
+              hash,
+              CompletableFuture.supplyAsync(
+                      () -> s3Service.uploadRenditions(file, keyBase), encodeExecutor)
+                  .thenCompose(renditions -> toUploadedImage(hash, keyBase, renditions)));
+        });
+
+    // 실패가 있어도 진행 중인 업로드가 끝난 뒤에 정리해야 고아 파일이 남지 않는다.
+    RuntimeException failure = awaitAll(uploads.values());
+    if (failure != null) {
+      log.warn(
+          "이미지 업로드 실패, 업로드된 파일 정리 - pathName: {}, images: {}", pathName, keyBases.size());
+      deleteAll(keyBases);
+      throw failure;
+    }
+
+    log.info("이미지 일괄 업로드 성공 - pathName: {}, count: {}", pathName, uploads.size());
+    Map<String, UploadedImage> uploaded = new LinkedHashMap<>();
+    uploads.forEach((hash, upload) -> uploaded.put(hash, upload.join()));
+    return uploaded;
+  }
+
+  /** keyBase별 모든 사본 객체를 지운다. (없는 key 삭제는 무시됨, 실패는 로그만 남김) */
+  public void deleteAll(List<String> keyBases) {
+    List<CompletableFuture<Void>> deletes = new ArrayList<>();
+    for (String keyBase : keyBases) {
+      for (ImageRendition rendition : ImageRendition.values()) {
+        String keyName = rendition.keyName(keyBase);
+        deletes.add(
+            CompletableFuture.runAsync(() -> s3Service.deleteQuietly(keyName), uploadExecutor));
+      }
+    }
+    CompletableFuture.allOf(deletes.toArray(CompletableFuture[]::new)).join();
+  }
+
+  /** 사본 업로드가 모두 끝나면(하나라도 실패하면 나머지도 끝난 뒤 실패로) 완료된다. */
+  private CompletableFuture<UploadedImage> toUploadedImage(
+      String hash, String keyBase, Map<ImageRendition, CompletableFuture<String>> renditions) {
+    return CompletableFuture.allOf(renditions.values().toArray(CompletableFuture[]::new))
+        .thenApply(
+            v ->
+                new UploadedImage(
+                    hash,
+                    keyBase,
+                    urlOf(renditions.get(ImageRendition.ORIGINAL)),
+                    urlOf(renditions.get(ImageRendition.SMALL)),
+                    urlOf(renditions.get(ImageRendition.MEDIUM))));
+  }
+
+  private String urlOf(CompletableFuture<String> upload) {
+    return s3Mapper.toResponse(upload.join()).getImageUrl();
+  }
+
+  /** 모든 작업이 끝나기를 기다리고, 입력 순서상 첫 번째 실패를 반환한다. (없으면 null) */
+  private static RuntimeException awaitAll(Collection<? extends CompletableFuture<?>> tasks) {
+    CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+        .exceptionally(e -> null)
+        .join();
+
+    return tasks.stream()
+        .filter(CompletableFuture::isCompletedExceptionally)
+        .findFirst()
+        .map(ImageUploadPipeline::toFailure)
+        .orElse(null);
+  }
+
+  private static RuntimeException toFailure(CompletableFuture<?> upload) {
+    Throwable cause = upload.exceptionNow();
+    if (cause instanceof CustomException custom) {
+      return custom;
+    }
+    log.error("이미지 처리 중 예기치 않은 오류 - message: {}", cause.getMessage(), cause);
+    return new CustomException(S3ErrorCode.FILE_SERVER_ERROR);
+  }
+}
@@ -3,11 +3,23 @@
  */
 package com.wit.payment.global.s3.service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -18,17 +30,18 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
 import com.amazonaws.services.s3.model.ListObjectsV2Result;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.sksamuel.scrimage.ImmutableImage;
 import com.sksamuel.scrimage.webp.WebpWriter;
 import com.wit.payment.global.exception.CustomException;
 import com.wit.payment.global.s3.S3Config;
 import com.wit.payment.global.s3.dto.S3Response;
+import com.wit.payment.global.s3.entity.ImageRendition;
 import com.wit.payment.global.s3.entity.PathName;
 import com.wit.payment.global.s3.exception.S3ErrorCode;
 import com.wit.payment.global.s3.mapper.S3Mapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,9 +55,20 @@ public class S3Service {
 
   private static final int WEBP_QUALITY = 90;
 
+  /** 내용 해시에 포함하는 인코딩 설정. 품질이나 사본 크기가 바뀌면 다른 해시가 되어 다시 변환한다. */
+  private static final String ENCODING_PROFILE =
+      "webp;q="
+          + WEBP_QUALITY
+          + ";"
+          + Arrays.stream(ImageRendition.values())
+              .map(r -> r.name() + "=" + r.getMaxSize())
+              .collect(Collectors.joining(","));
+
   private final AmazonS3 amazonS3;
   private final S3Config s3Config;
   private final S3Mapper s3Mapper;
+  private final S3StreamUploader streamUploader;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Multipart 이미지 파일을 업로드하고, S3Response를 반환합니다.
@@ -74,40 +98,120 @@ public class S3Service {
 
     validateFile(file);
 
-    // 1) WebP 포맷으로 변환
-    byte[] webpBytes = convertToWebp(file);
-
-    // 2) keyName 및 메타데이터 생성
     String keyName = createKeyName(pathName, ".webp");
+    CompletableFuture<String> upload =
+        encodeSafely(file, () -> streamWebp(decode(file), keyName, file));
+    try {
+      return upload.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof CustomException custom) {
+        throw custom;
+      }
+      log.error("S3 업로드 중 예기치 않은 오류 - keyName: {}", keyName, e.getCause());
+      throw new CustomException(S3ErrorCode.FILE_SERVER_ERROR);
+    }
+  }
 
-    ObjectMetadata metadata = new ObjectMetadata();
-    metadata.setContentLength(webpBytes.length);
-    metadata.setContentType("image/webp");
+  /**
+   * 파일을 검증하고 한 번만 디코딩해 크기별 WebP를 S3로 흘려보냅니다. 인코딩은 호출 스레드에서, S3 호출은 업로드 스레드에서 실행됩니다.
+   *
+   * <p>원본이 사본 크기보다 작으면 다시 인코딩하지 않고 원본 객체를 S3 안에서 복사합니다. 인코딩이 실패하면 이미 시작된 업로드가 끝나기를 기다린 뒤
+   * 예외를 던지므로, 호출자는 keyBase 아래 객체를 바로 정리할 수 있습니다.
+   *
+   * <p>디코딩된 이미지(가로 × 세로 × 4 byte)는 사본을 모두 인코딩할 때까지 들고 있고, 사본마다 WebP 결과 byte[]와 같은 크기의 업로드
+   * 버퍼(최대 5 MiB)를 더 잡습니다.
+   *
+   * @return 사본별 업로드 future (완료 값은 keyName)
+   */
+  public Map<ImageRendition, CompletableFuture<String>> uploadRenditions(
+      MultipartFile file, String keyBase) {
 
-    try (ByteArrayInputStream inputStream = new ByteArrayInputStream(webpBytes)) {
-      amazonS3.putObject(
-          new PutObjectRequest(s3Config.getBucket(), keyName, inputStream, metadata));
+    validateFile(file);
 
-      log.info("파일 업로드 성공 - bucket: {}, keyName: {}", s3Config.getBucket(), keyName);
-      return keyName;
+    Map<ImageRendition, CompletableFuture<String>> uploads = new EnumMap<>(ImageRendition.class);
+    try {
+      return encodeSafely(
+          file,
+          () -> {
+            ImmutableImage image = decode(file);
+            for (ImageRendition rendition : ImageRendition.values()) {
+              String keyName = rendition.keyName(keyBase);
+              int maxSize = rendition.getMaxSize();
+
+              if (maxSize == 0) {
+                uploads.put(rendition, streamWebp(image, keyName, file));
+              } else if (image.width <= maxSize && image.height <= maxSize) {
+                uploads.put(
+                    rendition,
+                    uploads
+                        .get(ImageRendition.ORIGINAL)
+                        .thenCompose(original -> streamUploader.copy(original, keyName)));
+              } else {
+                uploads.put(rendition, streamWebp(image.bound(maxSize, maxSize), keyName, file));
+              }
+            }
+            return uploads;
+          });
+    } catch (CustomException e) {
+      CompletableFuture.allOf(uploads.values().toArray(CompletableFuture[]::new))
+          .exceptionally(ex -> null)
+          .join();
+      throw e;
+    }
+  }
 
-    } catch (AmazonS3Exception e) {
-      log.error(
-          "S3 업로드 중 AmazonS3Exception 발생 - bucket: {}, keyName: {}, message: {}",
-          s3Config.getBucket(),
-          keyName,
-          e.getMessage(),
-          e);
-      throw new CustomException(S3ErrorCode.S3_CONNECTION_FAILED);
+  /**
+   * 파일을 검증하고 내용 해시(SHA-256, hex)를 계산합니다. 원본 바이트 뒤에 인코딩 설정을 더해, 설정이 바뀌면 같은 원본도 다른 이미지로 취급합니다.
+   * (파일 전체를 메모리에 올리지 않음)
+   */
+  public String contentHash(MultipartFile file) {
 
+    validateFile(file);
+
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+
+    try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+      in.transferTo(OutputStream.nullOutputStream());
     } catch (IOException e) {
       log.error(
-          "S3 업로드 중 IO 예외 발생 - bucket: {}, keyName: {}, message: {}",
+          "이미지 해시 계산 중 IO 오류 - originalFilename: {}, message: {}",
+          file.getOriginalFilename(),
+          e.getMessage());
+      throw new CustomException(S3ErrorCode.IMAGE_READ_FAILED);
+    }
+
+    digest.update(ENCODING_PROFILE.getBytes(StandardCharsets.US_ASCII));
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * 내용 해시 기반 keyName 접두어(경로/해시-세대). 확장자와 사본 접미사는 {@link ImageRendition}이 붙입니다.
+   *
+   * <p>세대 접미사는 같은 해시의 이전 객체가 커밋 후 삭제되는 중에 다시 올라오더라도 key가 겹치지 않게 합니다.
+   */
+  public String createKeyBase(PathName pathName, String contentHash) {
+    String generation = UUID.randomUUID().toString().substring(0, 8);
+    return getPrefix(pathName) + "/" + contentHash + "-" + generation;
+  }
+
+  /** 업로드 실패 정리용 삭제. 존재 확인 없이 지우고, 실패해도 예외를 던지지 않습니다. */
+  public void deleteQuietly(String keyName) {
+
+    try {
+      amazonS3.deleteObject(new DeleteObjectRequest(s3Config.getBucket(), keyName));
+      log.info("파일 정리 삭제 - bucket: {}, keyName: {}", s3Config.getBucket(), keyName);
+
+    } catch (RuntimeException e) {
+      log.warn(
+          "파일 정리 삭제 실패 - bucket: {}, keyName: {}, message: {}",
           s3Config.getBucket(),
           keyName,
-          e.getMessage(),
-          e);
-      throw new CustomException(S3ErrorCode.IO_EXCEPTION);
+          e.getMessage());
     }
   }
 
@@ -240,41 +344,72 @@ public class S3Service {
     };
   }
 
-  /** MultipartFile을 WebP 포맷의 byte[]로 변환합니다. (scrimage 사용) */
-  private byte[] convertToWebp(MultipartFile file) {
+  private ImmutableImage decode(MultipartFile file) {
 
+    ImmutableImage image;
     try {
-      ImmutableImage image;
-      try {
-        image = ImmutableImage.loader().fromStream(file.getInputStream());
-      } catch (IOException e) {
-        log.error(
-            "이미지 디코딩 오류 - originalFilename: {}, message: {}",
-            file.getOriginalFilename(),
-            e.getMessage());
-        throw new CustomException(S3ErrorCode.IMAGE_READ_FAILED);
-      }
+      image = ImmutableImage.loader().fromStream(file.getInputStream());
+    } catch (IOException e) {
+      log.error(
+          "이미지 디코딩 오류 - originalFilename: {}, message: {}",
+          file.getOriginalFilename(),
+          e.getMessage());
+      throw new CustomException(S3ErrorCode.IMAGE_READ_FAILED);
+    }
 
-      if (image == null) {
-        log.warn("이미지 디코딩 실패 - originalFilename: {}", file.getOriginalFilename());
-        throw new CustomException(S3ErrorCode.IMAGE_READ_FAILED);
-      }
+    if (image == null) {
+      log.warn("이미지 디코딩 실패 - originalFilename: {}", file.getOriginalFilename());
+      throw new CustomException(S3ErrorCode.IMAGE_READ_FAILED);
+    }
+    return image;
+  }
 
-      // scrimage 4.2.0: 품질(Q) 0~100
-      WebpWriter writer = WebpWriter.DEFAULT.withQ(WEBP_QUALITY);
-
-      ByteArrayOutputStream baos = new ByteArrayOutputStream();
-      try {
-        image.forWriter(writer).write(baos); // 핵심 변경
-      } catch (IOException e) {
-        log.error(
-            "WebP 변환 중 IO 오류 - originalFilename: {}, message: {}",
-            file.getOriginalFilename(),
-            e.getMessage());
-        throw new CustomException(S3ErrorCode.IMAGE_WRITE_FAILED);
-      }
+  /**
+   * WebP 인코더 출력을 S3 업로드 스트림에 씁니다.
+   *
+   * <p>scrimage WebpWriter는 PNG 임시 파일을 cwebp로 변환한 뒤 결과 파일을 byte[]로 읽어 한 번에 쓰므로, 사본 하나를 인코딩하는 동안
+   * 디코딩된 이미지(가로 × 세로 × 4 byte)와 인코딩 결과 byte[], 그리고 업로드 버퍼(min(결과 크기, 5 MiB))가 함께 힙에 있습니다. 업로드
+   * 버퍼는 결과 크기에 맞춰 잡고, 인코딩 결과 byte[]는 이 메서드가 끝나면 놓습니다.
+   *
+   * <p>인코딩 시간(업로드 한도 대기 포함, 업로드 완료 대기 제외)은 {@code image.webp.encode} 타이머로 기록합니다.
+   */
+  private CompletableFuture<String> streamWebp(
+      ImmutableImage image, String keyName, MultipartFile file) {
+
+    // scrimage 4.2.0: 품질(Q) 0~100
+    WebpWriter writer = WebpWriter.DEFAULT.withQ(WEBP_QUALITY);
 
-      return baos.toByteArray();
+    S3UploadStream out = streamUploader.open(keyName, "image/webp");
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      image.forWriter(writer).write(out);
+      outcome = "success";
+    } catch (IOException e) {
+      out.abort();
+      log.error(
+          "WebP 변환 중 IO 오류 - originalFilename: {}, message: {}",
+          file.getOriginalFilename(),
+          e.getMessage());
+      throw new CustomException(S3ErrorCode.IMAGE_WRITE_FAILED);
+    } catch (RuntimeException e) {
+      out.abort();
+      throw e;
+    } finally {
+      sample.stop(
+          Timer.builder("image.webp.encode")
+              .description("WebP 인코딩 소요 시간")
+              .tag("outcome", outcome)
+              .register(meterRegistry));
+    }
+    return out.complete();
+  }
+
+  /** 변환 중 CustomException이 아닌 예외는 WEBP_ENCODING_ERROR로 바꿉니다. */
+  private <T> T encodeSafely(MultipartFile file, Supplier<T> encoder) {
+
+    try {
+      return encoder.get();
 
     } catch (CustomException e) {
       throw e;
@@ -0,0 +1,242 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.service;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.wit.payment.global.exception.CustomException;
+import com.wit.payment.global.s3.S3Config;
+import com.wit.payment.global.s3.exception.S3ErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인코더 출력을 S3로 올리는 업로더.
+ *
+ * <p>출력은 쓰인 만큼만 잡는 버퍼에 쌓이고, 5 MiB가 차면 멀티파트 업로드의 한 파트로 올라간다. 한 파트 안에 끝나는 객체는 인코딩 결과
+ * 크기에 맞춘 버퍼 하나로 putObject 한 번에 올린다. 업로드 중인(S3 응답을 기다리는) 버퍼의 합은 {@code s3.upload.in-flight-bytes}로
+ * 제한하고, 한도를 넘으면 인코더가 앞선 업로드가 끝나기를 기다린다. S3 호출은 모두 imageUploadExecutor(가상 스레드)에서 실행되고, 호출별
+ * 소요 시간은 {@code s3.request} 타이머(operation, outcome 태그)로 기록한다.
+ *
+ * <p>메모리 상한은 일정하지 않다. 스트림 하나는 쓰는 중에 min(출력 크기, 5 MiB)를 잡고, 업로드 대기 버퍼는 모든 스트림을 합쳐 한도를 넘지 않는다.
+ * 인코더 쪽 사용량은 {@link S3Service}를 본다.
+ */
+@Slf4j
+@Component
+public class S3StreamUploader {
+
+  /** 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외) */
+  static final int PART_SIZE = 5 * 1024 * 1024;
+
+  private final AmazonS3 amazonS3;
+  private final S3Config s3Config;
+  private final ExecutorService uploadExecutor;
+  private final MeterRegistry meterRegistry;
+
+  /** 업로드 중인 버퍼 바이트 수 한도 (퍼밋 1개 = 1 byte) */
+  private final Semaphore inFlightBytes;
+
+  private final int maxInFlightBytes;
+
+  public S3StreamUploader(
+      AmazonS3 amazonS3,
+      S3Config s3Config,
+      @Qualifier("imageUploadExecutor") ExecutorService uploadExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${s3.upload.in-flight-bytes:83886080}") int maxInFlightBytes) {
+    this.amazonS3 = amazonS3;
+    this.s3Config = s3Config;
+    this.uploadExecutor = uploadExecutor;
+    this.meterRegistry = meterRegistry;
+    this.maxInFlightBytes = maxInFlightBytes;
+    this.inFlightBytes = new Semaphore(maxInFlightBytes);
+  }
+
+  /** keyName으로 업로드할 스트림을 연다. 다 쓴 뒤 {@link S3UploadStream#complete()} 또는 abort()를 호출해야 한다. */
+  public S3UploadStream open(String keyName, String contentType) {
+    return new S3UploadStream(this, keyName, contentType);
+  }
+
+  /** 같은 버킷 안에서 객체를 복사한다. (바이트가 서버를 거치지 않음) */
+  public CompletableFuture<String> copy(String sourceKey, String targetKey) {
+    return async(
+        "복사",
+        "copy",
+        targetKey,
+        () -> {
+          amazonS3.copyObject(
+              new CopyObjectRequest(
+                  s3Config.getBucket(), sourceKey, s3Config.getBucket(), targetKey));
+          log.info("파일 복사 성공 - sourceKey: {}, keyName: {}", sourceKey, targetKey);
+          return targetKey;
+        });
+  }
+
+  /* ===================== S3UploadStream 전용 ===================== */
+
+  /**
+   * 업로드로 넘길 버퍼 크기만큼 한도를 잡는다. 한도가 모자라면 앞선 업로드가 끝나기를 기다린다.
+   *
+   * @return 잡은 퍼밋 수 (업로드가 끝나면 {@link #releaseInFlight(int)}로 반납)
+   */
+  int acquireInFlight(int bytes) {
+    int permits = Math.min(bytes, maxInFlightBytes); // 한도보다 큰 버퍼도 혼자서는 올라가도록
+    try {
+      inFlightBytes.acquire(permits);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(S3ErrorCode.IO_EXCEPTION);
+    }
+    return permits;
+  }
+
+  void releaseInFlight(int permits) {
+    inFlightBytes.release(permits);
+  }
+
+  CompletableFuture<String> putObject(String keyName, String contentType, byte[] data, int len) {
+    return async(
+        "업로드",
+        "put",
+        keyName,
+        () -> {
+          amazonS3.putObject(
+              new PutObjectRequest(
+                  s3Config.getBucket(),
+                  keyName,
+                  new ByteArrayInputStream(data, 0, len),
+                  metadata(contentType, len)));
+          log.info("파일 업로드 성공 - bucket: {}, keyName: {}", s3Config.getBucket(), keyName);
+          return keyName;
+        });
+  }
+
+  CompletableFuture<String> initiateMultipart(String keyName, String contentType) {
+    return async(
+        "멀티파트 시작",
+        "initiate_multipart",
+        keyName,
+        () ->
+            amazonS3
+                .initiateMultipartUpload(
+                    new InitiateMultipartUploadRequest(
+                        s3Config.getBucket(), keyName, metadata(contentType, -1)))
+                .getUploadId());
+  }
+
+  PartETag uploadPart(String keyName, String uploadId, int partNumber, byte[] data, int len) {
+    return call(
+        "파트 업로드",
+        "upload_part",
+        keyName,
+        () ->
+            amazonS3
+                .uploadPart(
+                    new UploadPartRequest()
+                        .withBucketName(s3Config.getBucket())
+                        .withKey(keyName)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(data, 0, len))
+                        .withPartSize(len))
+                .getPartETag());
+  }
+
+  String completeMultipart(String keyName, String uploadId, List<PartETag> parts) {
+    return call(
+        "멀티파트 완료",
+        "complete_multipart",
+        keyName,
+        () -> {
+          amazonS3.completeMultipartUpload(
+              new CompleteMultipartUploadRequest(s3Config.getBucket(), keyName, uploadId, parts));
+          log.info(
+              "파일 업로드 성공(멀티파트) - bucket: {}, keyName: {}, parts: {}",
+              s3Config.getBucket(),
+              keyName,
+              parts.size());
+          return keyName;
+        });
+  }
+
+  void abortMultipartQuietly(String keyName, String uploadId) {
+    try {
+      amazonS3.abortMultipartUpload(
+          new AbortMultipartUploadRequest(s3Config.getBucket(), keyName, uploadId));
+      log.info("멀티파트 업로드 취소 - keyName: {}, uploadId: {}", keyName, uploadId);
+    } catch (RuntimeException e) {
+      log.warn(
+          "멀티파트 업로드 취소 실패 - keyName: {}, uploadId: {}, message: {}",
+          keyName,
+          uploadId,
+          e.getMessage());
+    }
+  }
+
+  ExecutorService executor() {
+    return uploadExecutor;
+  }
+
+  private <T> CompletableFuture<T> async(
+      String action, String operation, String keyName, Supplier<T> task) {
+    return CompletableFuture.supplyAsync(
+        () -> call(action, operation, keyName, task), uploadExecutor);
+  }
+
+  private <T> T call(String action, String operation, String keyName, Supplier<T> task) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      T result = task.get();
+      outcome = "success";
+      return result;
+    } catch (SdkClientException e) {
+      log.error(
+          "S3 {} 중 예외 발생 - bucket: {}, keyName: {}, message: {}",
+          action,
+          s3Config.getBucket(),
+          keyName,
+          e.getMessage(),
+          e);
+      throw new CustomException(S3ErrorCode.S3_CONNECTION_FAILED);
+    } finally {
+      sample.stop(
+          Timer.builder("s3.request")
+              .description("S3 호출 소요 시간")
+              .tag("operation", operation)
+              .tag("outcome", outcome)
+              .register(meterRegistry));
+    }
+  }
+
+  private static ObjectMetadata metadata(String contentType, long contentLength) {
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentType(contentType);
+    if (contentLength >= 0) {
+      metadata.setContentLength(contentLength);
+    }
+    return metadata;
+  }
+}
@@ -0,0 +1,164 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.service;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.amazonaws.services.s3.model.PartETag;
+
+/**
+ * {@link S3StreamUploader}로 올릴 데이터를 모으는 OutputStream. (한 스레드에서만 사용)
+ *
+ * <p>버퍼는 쓰인 크기에 맞춰 늘리되 5 MiB를 넘기지 않는다. 5 MiB가 차면 파트를 업로드 스레드로 넘기고 새 버퍼를 잡는다. 인코딩 스레드는 S3 호출을
+ * 기다리지 않으며, 업로드 중인 버퍼가 한도를 넘을 때만 대기할 수 있다.
+ */
+public final class S3UploadStream extends OutputStream {
+
+  private static final int INITIAL_CAPACITY = 8 * 1024;
+
+  private final S3StreamUploader uploader;
+  private final String keyName;
+  private final String contentType;
+
+  private byte[] buffer;
+  private int position;
+
+  private CompletableFuture<String> uploadId; // 첫 파트가 찰 때 시작
+  private final List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+  private boolean finished;
+
+  S3UploadStream(S3StreamUploader uploader, String keyName, String contentType) {
+    this.uploader = uploader;
+    this.keyName = keyName;
+    this.contentType = contentType;
+  }
+
+  @Override
+  public void write(int b) {
+    checkOpen();
+    ensureCapacity(1);
+    buffer[position++] = (byte) b;
+    if (position == S3StreamUploader.PART_SIZE) {
+      sendPart();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    checkOpen();
+    while (len > 0) {
+      ensureCapacity(len);
+      int n = Math.min(len, buffer.length - position);
+      System.arraycopy(b, off, buffer, position, n);
+      position += n;
+      off += n;
+      len -= n;
+      if (position == S3StreamUploader.PART_SIZE) {
+        sendPart();
+      }
+    }
+  }
+
+  /** 완료는 complete()/abort()로만 한다. (인코더가 스트림을 닫아도 업로드는 끝나지 않음) */
+  @Override
+  public void close() {}
+
+  /**
+   * 남은 데이터를 올리고 업로드를 마친다.
+   *
+   * @return 업로드가 끝나면 keyName으로 완료되는 future (실패 시 멀티파트 업로드는 취소됨)
+   */
+  public CompletableFuture<String> complete() {
+    finish();
+    if (uploadId == null) {
+      byte[] data = buffer != null ? buffer : new byte[0];
+      int length = position;
+      buffer = null;
+      int permits = uploader.acquireInFlight(length);
+      return uploader
+          .putObject(keyName, contentType, data, length)
+          .whenComplete((key, e) -> uploader.releaseInFlight(permits));
+    }
+
+    if (position > 0) {
+      sendPart();
+    }
+    buffer = null;
+    return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+        .thenApplyAsync(
+            v ->
+                uploader.completeMultipart(
+                    keyName, uploadId.join(), parts.stream().map(CompletableFuture::join).toList()),
+            uploader.executor())
+        .whenComplete(
+            (key, e) -> {
+              if (e != null) {
+                abortMultipart();
+              }
+            });
+  }
+
+  /** 쓰다가 실패한 경우. 버퍼를 버리고, 진행 중인 파트가 끝나면 멀티파트 업로드를 취소한다. */
+  public void abort() {
+    finish();
+    buffer = null;
+    if (uploadId != null) {
+      CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+          .whenCompleteAsync((v, e) -> abortMultipart(), uploader.executor());
+    }
+  }
+
+  /** len 바이트를 더 쓸 수 있게 버퍼를 늘린다. (최대 파트 크기까지, 한 번에 들어온 출력은 그 크기 그대로) */
+  private void ensureCapacity(int len) {
+    int needed = (int) Math.min((long) position + len, S3StreamUploader.PART_SIZE);
+    if (buffer == null) {
+      buffer = new byte[Math.max(needed, INITIAL_CAPACITY)];
+      position = 0;
+    } else if (needed > buffer.length) {
+      int grown = Math.min(Math.max(needed, buffer.length * 2), S3StreamUploader.PART_SIZE);
+      buffer = Arrays.copyOf(buffer, grown);
+    }
+  }
+
+  private void sendPart() {
+    if (uploadId == null) {
+      uploadId = uploader.initiateMultipart(keyName, contentType);
+    }
+    byte[] part = buffer;
+    int length = position;
+    int partNumber = parts.size() + 1;
+    buffer = null;
+    position = 0;
+
+    int permits = uploader.acquireInFlight(length);
+    parts.add(
+        uploadId
+            .thenApplyAsync(
+                id -> uploader.uploadPart(keyName, id, partNumber, part, length),
+                uploader.executor())
+            .whenComplete((etag, e) -> uploader.releaseInFlight(permits)));
+  }
+
+  private void checkOpen() {
+    if (finished) {
+      throw new IllegalStateException("stream already finished: " + keyName);
+    }
+  }
+
+  private void finish() {
+    checkOpen();
+    finished = true;
+  }
+
+  private void abortMultipart() {
+    // 멀티파트 시작 자체가 실패했으면 취소할 업로드가 없다.
+    if (uploadId.isDone() && !uploadId.isCompletedExceptionally()) {
+      uploader.abortMultipartQuietly(keyName, uploadId.join());
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.s3.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.wit.payment.global.s3.dto.UploadedImage;
+import com.wit.payment.global.s3.entity.PathName;
+import com.wit.payment.global.s3.event.StoredImageCleanupEvent;
+import com.wit.payment.global.s3.repository.StoredImageRepository;
+import com.wit.payment.global.s3.repository.StoredImageRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 해시로 중복을 없앤 이미지 저장소.
+ *
+ * <p>참조 추가/해제는 호출 측 트랜잭션에 참여한다. 이미 저장된 이미지는 변환/업로드 없이 참조 수만 올리고, 참조가 0이 된 이미지는 커밋 이후에 S3에서
+ * 지운다. 새로 올린 이미지는 트랜잭션이 롤백되면 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoredImageService {
+
+  private final StoredImageRepository storedImageRepository;
+  private final ImageUploadPipeline imageUploadPipeline;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 비어 있지 않은 파일마다 참조를 1 추가하고, 입력 순서대로 결과를 반환한다. 같은 내용의 파일이 여러 개면 각각 참조로 센다.
+   *
+   * @throws com.wit.payment.global.exception.CustomException 검증/변환/업로드 실패
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<UploadedImage> acquire(PathName pathName, List<MultipartFile> files) {
+    if (files == null || files.isEmpty()) {
+      return List.of();
+    }
+    List<MultipartFile> nonEmpty =
+        files.stream().filter(file -> file != null && !file.isEmpty()).toList();
+    List<String> hashes = imageUploadPipeline.hashAll(nonEmpty);
+
+    // 1) 저장된 적 없는 내용만 (요청 안 중복도 한 번만) 변환/업로드한다. 행 잠금은 업로드가 끝난 뒤에 잡는다.
+    Set<String> distinct = new LinkedHashSet<>(hashes);
+    Set<String> stored =
+        storedImageRepository.findRowsByContentHashIn(distinct).stream()
+            .map(StoredImageRow::contentHash)
+            .collect(Collectors.toSet());
+
+    Map<String, MultipartFile> missing = new LinkedHashMap<>();
+    for (int i = 0; i < nonEmpty.size(); i++) {
+      if (!stored.contains(hashes.get(i))) {
+        missing.putIfAbsent(hashes.get(i), nonEmpty.get(i));
+      }
+    }
+    Map<String, UploadedImage> uploaded = new LinkedHashMap<>(upload(pathName, missing));
+
+    // 2) 기존 이미지는 참조 수만 올리고, 새 이미지는 행을 만든다. 같은 이미지를 공유하는 동시 업로드가 서로 다른 순서로 행을 잠가
+    //    교착되지 않도록 해시 순으로 처리한다. 조회 이후 삭제된 이미지(드묾)는 새로 올린 뒤 마지막에 행을 만든다.
+    List<Integer> byHash =
+        IntStream.range(0, nonEmpty.size())
+            .boxed()
+            .sorted(Comparator.comparing(hashes::get))
+            .toList();
+    Map<String, MultipartFile> vanished = new LinkedHashMap<>();
+    List<String> vanishedHashes = new ArrayList<>();
+    int reused = 0;
+    for (int i : byHash) {
+      String hash = hashes.get(i);
+      if (uploaded.containsKey(hash)) {
+        insertOrAddReference(hash, uploaded.get(hash));
+      } else if (vanished.containsKey(hash) || storedImageRepository.addReference(hash) == 0) {
+        vanished.putIfAbsent(hash, nonEmpty.get(i));
+        vanishedHashes.add(hash);
+      } else {
+        reused++;
+      }
+    }
+    uploaded.putAll(upload(pathName, vanished));
+
+    // 3) 동시에 같은 내용이 먼저 저장됐으면 그 행을 참조한다.
+    for (String hash : vanishedHashes) {
+      insertOrAddReference(hash, uploaded.get(hash));
+    }
+
+    Map<String, UploadedImage> current =
+        storedImageRepository.findRowsByContentHashIn(distinct).stream()
+            .collect(
+                Collectors.toMap(StoredImageRow::contentHash, StoredImageRow::toUploadedImage));
+
+    // 4) 동시 업로드에 밀려 참조되지 않는 사본은 커밋 후 정리
+    List<String> superseded = new ArrayList<>();
+    uploaded.forEach(
+        (hash, image) -> {
+          if (!image.keyBase().equals(current.get(hash).keyBase())) {
+            superseded.add(image.keyBase());
+          }
+        });
+    if (!superseded.isEmpty()) {
+      eventPublisher.publishEvent(new StoredImageCleanupEvent(superseded, List.of()));
+    }
+
+    log.info(
+        "이미지 참조 추가 - pathName: {}, count: {}, uploaded: {}, reused: {}",
+        pathName,
+        hashes.size(),
+        uploaded.size(),
+        reused);
+    return hashes.stream().map(current::get).toList();
+  }
+
+  private void insertOrAddReference(String hash, UploadedImage image) {
+    storedImageRepository.insertOrAddReference(
+        hash, image.keyBase(), image.imageUrl(), image.smallImageUrl(), image.mediumImageUrl());
+  }
+
+  /** 업로드하고, 트랜잭션이 롤백되면 올린 객체를 지우도록 등록한다. */
+  private Map<String, UploadedImage> upload(PathName pathName, Map<String, MultipartFile> files) {
+    Map<String, UploadedImage> uploaded = imageUploadPipeline.uploadAll(pathName, files);
+    if (!uploaded.isEmpty()) {
+      List<String> keyBases = uploaded.values().stream().map(UploadedImage::keyBase).toList();
+      eventPublisher.publishEvent(new StoredImageCleanupEvent(List.of(), keyBases));
+    }
+    return uploaded;
+  }
+
+  /** 해시마다 참조를 1 해제하고, 참조가 0이 된 이미지는 행을 지운 뒤 커밋 이후 S3 객체를 삭제한다. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void release(List<String> contentHashes) {
+    if (contentHashes == null || contentHashes.isEmpty()) {
+      return;
+    }
+    // 참조 추가와 같은 해시 순으로 잠근다 (교착 방지)
+    contentHashes.stream().sorted().forEach(storedImageRepository::removeReference);
+
+    Set<String> distinct = new LinkedHashSet<>(contentHashes);
+    Map<String, StoredImageRow> rows =
+        storedImageRepository.findRowsByContentHashIn(distinct).stream()
+            .collect(Collectors.toMap(StoredImageRow::contentHash, Function.identity()));
+    List<String> unreferenced =
+        rows.values().stream()
+            .filter(row -> row.refCount() == 0)
+            .map(StoredImageRow::keyBase)
+            .toList();
+
+    if (!unreferenced.isEmpty()) {
+      storedImageRepository.deleteUnreferenced(distinct);
+      eventPublisher.publishEvent(new StoredImageCleanupEvent(unreferenced, List.of()));
+    }
+
+    log.info("이미지 참조 해제 - count: {}, deleted: {}", contentHashes.size(), unreferenced.size());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void deleteAfterCommit(StoredImageCleanupEvent event) {
+    if (!event.onCommit().isEmpty()) {
+      imageUploadPipeline.deleteAll(event.onCommit());
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+  public void deleteAfterRollback(StoredImageCleanupEvent event) {
+    if (!event.onRollback().isEmpty()) {
+      log.info("트랜잭션 롤백, 새로 올린 이미지 정리 - count: {}", event.onRollback().size());
+      imageUploadPipeline.deleteAll(event.onRollback());
+    }
+  }
+}
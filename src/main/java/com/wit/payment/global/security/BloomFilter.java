@@ -0,0 +1,74 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter. (thread-safe, 삭제 불가)
+ *
+ * <p>mightContain이 false면 확실히 없고, true면 설정한 오탐률 안에서 있을 수 있다. 해시는 시드가 다른 FNV-1a 64bit 두 개로
+ * 이중 해싱(h1 + i*h2)해서 k개를 만든다.
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions 예상 저장 수
+   * @param falsePositiveRate 목표 오탐률 (0~1)
+   */
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1L, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitCount = Math.max(64L, (m + 63) / 64 * 64);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    this.bits = new AtomicLongArray((int) (bitCount / 64));
+  }
+
+  void put(String value) {
+    long h1 = fnv1a(value, 0xcbf29ce484222325L);
+    long h2 = fnv1a(value, 0x84222325cbf29ce4L) | 1L;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      int index = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long word;
+      do {
+        word = bits.get(index);
+        if ((word & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(index, word, word | mask));
+    }
+  }
+
+  boolean mightContain(String value) {
+    long h1 = fnv1a(value, 0xcbf29ce484222325L);
+    long h2 = fnv1a(value, 0x84222325cbf29ce4L) | 1L;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long fnv1a(String value, long seed) {
+    long hash = seed;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    // 하위 비트 편향을 줄이기 위한 마무리 섞기 (murmur3 fmix64)
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
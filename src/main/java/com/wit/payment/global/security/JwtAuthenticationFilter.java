@@ -15,9 +15,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.wit.payment.global.jwt.JwtProvider;
-import com.wit.payment.global.redis.RedisUtil;
+import com.wit.payment.global.security.VerifiedTokenCache.VerifiedToken;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,8 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-  private final JwtProvider jwtProvider;
-  private final RedisUtil redisUtil;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final TokenBlacklist tokenBlacklist;
+  private final MeterRegistry meterRegistry;
 
   @Override
   protected void doFilterInternal(
@@ -36,27 +38,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     String token = SecurityUtil.resolveAccessToken(request);
 
-    if (token != null && jwtProvider.validateToken(token)) {
-
-      // 블랙리스트 체크
-      if (redisUtil.existData("blacklist:" + token)) {
-        log.warn("블랙리스트 토큰 접근 차단 - token: {}", token);
-        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Access token is blacklisted.");
-        return;
-      }
+    if (token != null && !authenticate(token)) {
+      response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Access token is blacklisted.");
+      return;
+    }
 
-      Long userId = jwtProvider.extractUserId(token);
-      String loginId = jwtProvider.extractLoginId(token);
-      String role = jwtProvider.extractRole(token);
+    filterChain.doFilter(request, response);
+  }
 
-      CustomUserDetails userDetails = new CustomUserDetails(userId, loginId, role);
+  /**
+   * 토큰을 검증해 SecurityContext에 인증 정보를 채운다. 소요 시간은 {@code security.jwt.authentication} 타이머로 기록한다.
+   *
+   * @return 블랙리스트 토큰이면 false
+   */
+  private boolean authenticate(String token) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "invalid";
+    try {
+      // 서명/만료 검증 (같은 토큰이면 캐시된 결과 사용)
+      VerifiedToken verified = verifiedTokenCache.get(token);
+      CustomUserDetails userDetails = verified.userDetails();
+
+      // 블랙리스트 체크 (로컬 Bloom filter에 걸린 경우만 Redis 확인)
+      if (tokenBlacklist.isRevoked(verified.tokenId())) {
+        log.warn("블랙리스트 토큰 접근 차단 - jti: {}", verified.tokenId());
+        outcome = "blacklisted";
+        return false;
+      }
 
       UsernamePasswordAuthenticationToken authentication =
           new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
       SecurityContextHolder.getContext().setAuthentication(authentication);
+      outcome = "authenticated";
+      return true;
+    } finally {
+      sample.stop(
+          Timer.builder("security.jwt.authentication")
+              .description("JWT 인증 필터 소요 시간")
+              .tag("outcome", outcome)
+              .register(meterRegistry));
     }
-
-    filterChain.doFilter(request, response);
   }
 }
@@ -0,0 +1,214 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wit.payment.global.exception.CustomException;
+import com.wit.payment.global.jwt.JwtProvider;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AccessToken 블랙리스트 (로그아웃된 토큰의 jti).
+ *
+ * <p>원본은 Redis 키 {@code blacklist:jti:{jti}}(TTL = 토큰 남은 수명)이고, 인스턴스마다 로컬 Bloom filter를 복제해
+ * 둔다. 요청마다 Bloom filter만 확인하고, 걸렸을 때(실제 블랙리스트 또는 오탐)만 Redis에 확인한다. 로그아웃한 토큰은 pub/sub으로 다른
+ * 인스턴스에 바로 전파되고, 메시지 유실에 대비해 주기적으로 Redis를 SCAN해 다시 채운다.
+ *
+ * <p>Bloom filter는 삭제가 안 되므로 토큰 exp 기준 시간 구간(window)별로 나눠 두고, 구간이 끝나면(그 안의 토큰이 모두 만료되면) 통째로
+ * 버린다. 첫 동기화가 끝나기 전에는 매번 Redis에 확인한다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+  private static final String CHANNEL = "auth:blacklist";
+  private static final String KEY_PREFIX = "blacklist:jti:";
+  private static final String LEGACY_KEY_PREFIX = "blacklist:";
+  private static final int SCAN_BATCH = 500;
+
+  private final StringRedisTemplate redisTemplate;
+  private final JwtProvider jwtProvider;
+  private final long windowMillis;
+  private final long expectedPerWindow;
+  private final double falsePositiveRate;
+
+  /** 구간 끝 시각(epoch millis) → 해당 구간에 exp가 속한 jti들의 Bloom filter */
+  private final ConcurrentSkipListMap<Long, BloomFilter> windows = new ConcurrentSkipListMap<>();
+
+  private volatile boolean synced;
+
+  public TokenBlacklist(
+      StringRedisTemplate redisTemplate,
+      JwtProvider jwtProvider,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${auth.blacklist.window-minutes:10}") long windowMinutes,
+      @Value("${auth.blacklist.expected-per-window:10000}") long expectedPerWindow,
+      @Value("${auth.blacklist.false-positive-rate:0.001}") double falsePositiveRate) {
+    this.redisTemplate = redisTemplate;
+    this.jwtProvider = jwtProvider;
+    this.windowMillis = Duration.ofMinutes(windowMinutes).toMillis();
+    this.expectedPerWindow = expectedPerWindow;
+    this.falsePositiveRate = falsePositiveRate;
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /** 토큰을 블랙리스트에 올리고 다른 인스턴스에 알린다. (이미 만료된 토큰은 무시) */
+  public void revoke(String tokenId, long expiresAtMillis) {
+    long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+    if (ttlMillis <= 0) {
+      return;
+    }
+    redisTemplate
+        .opsForValue()
+        .set(KEY_PREFIX + tokenId, String.valueOf(expiresAtMillis), Duration.ofMillis(ttlMillis));
+    addLocal(tokenId, expiresAtMillis);
+    redisTemplate.convertAndSend(CHANNEL, tokenId + "|" + expiresAtMillis);
+  }
+
+  /** 블랙리스트 여부. Bloom filter에 없으면 Redis 조회 없이 false */
+  public boolean isRevoked(String tokenId) {
+    if (tokenId == null) {
+      return false;
+    }
+    if (synced && !mightContain(tokenId)) {
+      return false;
+    }
+    return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int sep = body.lastIndexOf('|');
+    if (sep <= 0) {
+      log.warn("[BLACKLIST] 잘못된 메시지 무시 - body={}", body);
+      return;
+    }
+    try {
+      addLocal(body.substring(0, sep), Long.parseLong(body.substring(sep + 1)));
+    } catch (NumberFormatException e) {
+      log.warn("[BLACKLIST] 잘못된 메시지 무시 - body={}", body);
+    }
+  }
+
+  /**
+   * Redis의 블랙리스트를 로컬 Bloom filter에 다시 채운다. (기동 직후 1회, 이후 주기적으로)
+   *
+   * <p>추가만 하므로 동기화 도중 pub/sub으로 들어온 항목도 잃지 않는다. 토큰 원문을 키로 쓰던 이전 형식({@code blacklist:{token}})은
+   * jti 키로 옮긴다.
+   */
+  @Scheduled(
+      initialDelayString = "${auth.blacklist.initial-delay-ms:0}",
+      fixedDelayString = "${auth.blacklist.resync-ms:300000}")
+  public void resync() {
+    try {
+      int loaded = 0;
+      int migrated = 0;
+      List<String> batch = new ArrayList<>(SCAN_BATCH);
+      ScanOptions options =
+          ScanOptions.scanOptions().match(LEGACY_KEY_PREFIX + "*").count(1000).build();
+      try (Cursor<String> cursor = redisTemplate.scan(options)) {
+        while (cursor.hasNext()) {
+          String key = cursor.next();
+          if (!key.startsWith(KEY_PREFIX)) {
+            migrated += migrateLegacy(key);
+            continue;
+          }
+          batch.add(key);
+          if (batch.size() == SCAN_BATCH) {
+            loaded += load(batch);
+            batch.clear();
+          }
+        }
+      }
+      loaded += load(batch);
+      evictExpired(System.currentTimeMillis());
+
+      if (!synced) {
+        synced = true;
+        log.info("[BLACKLIST] 초기 동기화 완료 - tokens={}, migrated={}", loaded, migrated);
+      }
+    } catch (RuntimeException e) {
+      log.error("[BLACKLIST] 동기화 실패 - synced={}", synced, e);
+    }
+  }
+
+  private int load(List<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+    List<String> values = redisTemplate.opsForValue().multiGet(keys);
+    int loaded = 0;
+    for (int i = 0; i < keys.size(); i++) {
+      String value = values == null ? null : values.get(i);
+      if (value == null) {
+        continue; // SCAN 이후 만료됨
+      }
+      try {
+        addLocal(keys.get(i).substring(KEY_PREFIX.length()), Long.parseLong(value));
+        loaded++;
+      } catch (NumberFormatException e) {
+        log.warn("[BLACKLIST] 잘못된 값 무시 - key={}", keys.get(i));
+      }
+    }
+    return loaded;
+  }
+
+  private int migrateLegacy(String key) {
+    String token = key.substring(LEGACY_KEY_PREFIX.length());
+    try {
+      Claims claims = jwtProvider.parseVerifiedClaims(token);
+      revoke(claims.getId(), claims.getExpiration().getTime());
+      return 1;
+    } catch (CustomException e) {
+      return 0; // 이미 만료되었거나 토큰이 아닌 키
+    } finally {
+      redisTemplate.delete(key);
+    }
+  }
+
+  private void addLocal(String tokenId, long expiresAtMillis) {
+    long windowEnd = (Math.floorDiv(expiresAtMillis, windowMillis) + 1) * windowMillis;
+    if (windowEnd <= System.currentTimeMillis()) {
+      return;
+    }
+    windows
+        .computeIfAbsent(windowEnd, k -> new BloomFilter(expectedPerWindow, falsePositiveRate))
+        .put(tokenId);
+  }
+
+  private boolean mightContain(String tokenId) {
+    long now = System.currentTimeMillis();
+    ConcurrentNavigableMap<Long, BloomFilter> live = windows.tailMap(now, false);
+    for (BloomFilter filter : live.values()) {
+      if (filter.mightContain(tokenId)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void evictExpired(long now) {
+    windows.headMap(now, true).clear();
+  }
+}
@@ -0,0 +1,93 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.wit.payment.global.jwt.JwtProvider;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 검증을 마친 AccessToken → 사용자 정보 로컬 캐시.
+ *
+ * <p>같은 토큰으로 반복 요청(관리자 대시보드 폴링 등)이 오면 HS256 서명 검증과 파싱을 다시 하지 않는다. 항목은 토큰의 exp 시각(최대 maxTtl)에
+ * 만료되므로 만료된 토큰이 캐시로 통과하지 않는다. 검증에 실패한 토큰은 캐시하지 않는다. 블랙리스트(로그아웃) 확인은 캐시와 별개로 매 요청 수행한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final JwtProvider jwtProvider;
+  private final Cache<String, VerifiedToken> cache;
+
+  public VerifiedTokenCache(
+      JwtProvider jwtProvider,
+      @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+      @Value("${jwt.verified-cache.max-ttl-seconds:600}") long maxTtlSeconds) {
+    this.jwtProvider = jwtProvider;
+    long maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new UntilTokenExpiry(maxTtlNanos))
+            .build();
+  }
+
+  /**
+   * 토큰의 사용자 정보와 jti. 캐시에 없으면 서명/만료를 한 번 검증해 채운다.
+   *
+   * @throws com.wit.payment.global.exception.CustomException 유효하지 않은 토큰
+   */
+  public VerifiedToken get(String token) {
+    return cache.get(token, this::verify);
+  }
+
+  /** 토큰을 캐시에서 제거한다. (로그아웃 등) */
+  public void invalidate(String token) {
+    cache.invalidate(token);
+  }
+
+  private VerifiedToken verify(String token) {
+    Claims claims = jwtProvider.parseVerifiedClaims(token);
+    CustomUserDetails userDetails =
+        new CustomUserDetails(
+            Long.parseLong(claims.getSubject()),
+            claims.get("loginId", String.class),
+            claims.get("role", String.class));
+    return new VerifiedToken(userDetails, claims.getId(), claims.getExpiration().getTime());
+  }
+
+  /** 검증된 토큰 정보 (tokenId = jti, 블랙리스트 확인용) */
+  public record VerifiedToken(
+      CustomUserDetails userDetails, String tokenId, long expiresAtMillis) {}
+
+  /** 항목 수명 = min(토큰 exp까지 남은 시간, maxTtl) */
+  private record UntilTokenExpiry(long maxTtlNanos) implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String token, VerifiedToken value, long currentTime) {
+      long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+      return Math.max(0L, Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMillis), maxTtlNanos));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String token, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(token, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String token, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
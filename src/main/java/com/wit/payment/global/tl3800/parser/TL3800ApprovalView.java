@@ -0,0 +1,339 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HexFormat;
+
+import com.wit.payment.global.tl3800.proto.AsciiNumbers;
+import com.wit.payment.global.tl3800.proto.Proto;
+import com.wit.payment.global.tl3800.proto.TLFrame;
+import com.wit.payment.global.tl3800.proto.TLPacket;
+
+/**
+ * TL3800 승인 응답 데이터에 대한 flyweight 뷰.
+ *
+ * <p>{@link TL3800ApprovalInfo}처럼 모든 필드를 미리 String으로 만들지 않고, 고정 오프셋에서 필요한 값만 읽는다. 금액은 primitive로 바로
+ * 파싱하고({@link AsciiNumbers}), 문자열 필드는 호출 시점에 바이트 단위로 trim 한 뒤 한 번만 생성한다. 날짜/시간은 처음 조회할 때 한 번 계산해 캐시한다.
+ *
+ * <p>뷰는 원본 프레임 버퍼를 참조하므로 프레임이 유효한 동안만 사용한다. 인스턴스를 재사용하려면 {@link #wrap(TLFrame)}을 다시 호출한다. (thread-safe
+ * 하지 않음)
+ */
+public final class TL3800ApprovalView {
+
+  // --- 필드 오프셋 (실제 응답전문[b] 기준, TL3800ApprovalInfo와 동일) ---
+  static final int OFF_TRAN_TYPE = 0; // 거래구분코드 (1)
+  static final int OFF_MEDIA = 1; // 거래매체 (1)
+  static final int OFF_CARD_NO = 2; // 카드번호(마스킹) (20)
+  static final int OFF_TERMINAL_DT = 22; // 거래일시(YYMMDDhhmm) (10)
+  static final int OFF_AMOUNT = 32; // 승인금액 (10)
+  static final int OFF_VAT = 42; // 세금 (8)
+  static final int OFF_SVC = 50; // 봉사료 (8)
+  static final int OFF_INSTALLMENT = 58; // 할부개월 (2)
+  static final int OFF_APPROVAL_NO = 60; // 승인번호 (12)
+  static final int OFF_DATE = 72; // 매출일자 (8, yyyyMMdd)
+  static final int OFF_TIME = 80; // 매출시간 (6, HHmmss)
+  static final int OFF_VAN_TX_ID = 86; // 거래고유번호 (12)
+  static final int OFF_MERCHANT = 98; // 가맹점번호 (15)
+  static final int OFF_TERMINAL_NO = 113; // 단말기번호 (14)
+  static final int OFF_ISSUER = 127; // 발급사정보 (20)
+  static final int OFF_ACQUIRER = 147; // 매입사정보 (20)
+  static final int OFF_VAN_EXTRA = 167; // (선택) VAN 거래거절/응답 메시지
+
+  private ByteBuffer data; // index 0 = 데이터 첫 바이트
+  private TLFrame frame; // 헤더 TID 조회용 (TLPacket으로 감싼 경우 null)
+  private String terminalId; // TLPacket으로 감싼 경우 미리 채워짐
+  private int responseCode;
+
+  // 날짜/시간 캐시
+  private boolean dateTimeResolved;
+  private LocalDate approvedDate;
+  private LocalTime approvedTime;
+
+  // String 생성용 임시 버퍼 (읽기 전용 버퍼는 array()에 접근할 수 없으므로)
+  private byte[] scratch = new byte[32];
+
+  public TL3800ApprovalView() {}
+
+  public static TL3800ApprovalView of(TLFrame frame) {
+    return new TL3800ApprovalView().wrap(frame);
+  }
+
+  public static TL3800ApprovalView of(TLPacket packet) {
+    return new TL3800ApprovalView().wrap(packet);
+  }
+
+  /** HEX 문자열 → strict 검증 → 뷰 (소요 시간/실패는 tl3800.parse 타이머로 기록) */
+  public static TL3800ApprovalView fromHex(String tlPacketHex) {
+    long start = System.nanoTime();
+    try {
+      byte[] bytes = HexFormat.of().parseHex(tlPacketHex);
+      TL3800ApprovalView view = of(TLFrame.of(ByteBuffer.wrap(bytes))); // strict
+      TL3800Metrics.parsed(start);
+      return view;
+    } catch (RuntimeException e) {
+      TL3800Metrics.parseFailed(start, e);
+      throw e;
+    }
+  }
+
+  public TL3800ApprovalView wrap(TLFrame frame) {
+    reset(frame.data(), Byte.toUnsignedInt(frame.responseCode()));
+    this.frame = frame;
+    return this;
+  }
+
+  public TL3800ApprovalView wrap(TLPacket packet) {
+    reset(ByteBuffer.wrap(packet.data), Byte.toUnsignedInt(packet.responseCode));
+    this.terminalId = packet.catOrMid != null ? packet.catOrMid.trim() : null;
+    return this;
+  }
+
+  private void reset(ByteBuffer data, int responseCode) {
+    this.data = data;
+    this.responseCode = responseCode;
+    this.frame = null;
+    this.terminalId = null;
+    this.dateTimeResolved = false;
+    this.approvedDate = null;
+    this.approvedTime = null;
+  }
+
+  // ===== primitive =====
+
+  public int responseCode() {
+    return responseCode;
+  }
+
+  /** 데이터 길이 */
+  public int dataLength() {
+    return data.limit();
+  }
+
+  /** 승인금액(원거래금액+세금+봉사료) */
+  public int approvedAmount() {
+    return parseAmount(OFF_AMOUNT, 10);
+  }
+
+  /** 세금 */
+  public int vatAmount() {
+    return parseAmount(OFF_VAT, 8);
+  }
+
+  /** 봉사료 */
+  public int svcAmount() {
+    return parseAmount(OFF_SVC, 8);
+  }
+
+  /** 매출일자 (스펙 위치 → 데이터 전체 검색 → 현재 시각 순으로 방어적으로 결정) */
+  public LocalDate approvedDate() {
+    resolveDateTime();
+    return approvedDate;
+  }
+
+  /** 매출시간 */
+  public LocalTime approvedTime() {
+    resolveDateTime();
+    return approvedTime;
+  }
+
+  // ===== String (호출 시 생성) =====
+
+  /** 헤더 CAT/MID (TID) */
+  public String terminalId() {
+    if (terminalId == null && frame != null) {
+      byte[] id = new byte[Proto.CATMID_LEN];
+      frame.catOrMid().get(id);
+      terminalId = Proto.printableOrHex(id).trim();
+    }
+    return terminalId;
+  }
+
+  public String tranTypeCode() {
+    return ascii(OFF_TRAN_TYPE, 1, false);
+  }
+
+  public String mediaType() {
+    return ascii(OFF_MEDIA, 1, false);
+  }
+
+  public String cardNoMasked() {
+    return ascii(OFF_CARD_NO, 20, true);
+  }
+
+  public String installment() {
+    return ascii(OFF_INSTALLMENT, 2, false);
+  }
+
+  /** 12자리, space 포함 원본 */
+  public String approvalNoRaw() {
+    return ascii(OFF_APPROVAL_NO, 12, false);
+  }
+
+  /** trim된 승인번호 */
+  public String approvalNo() {
+    return ascii(OFF_APPROVAL_NO, 12, true);
+  }
+
+  /** 거래고유번호(거래날짜6+일련번호6) */
+  public String vanTransactionId() {
+    return ascii(OFF_VAN_TX_ID, 12, true);
+  }
+
+  /** 단말기번호(TID+일련번호, 14자리) */
+  public String terminalNo() {
+    return ascii(OFF_TERMINAL_NO, 14, true);
+  }
+
+  /** 단말 거래일련번호(terminalNo 마지막 4자리) */
+  public String terminalSeqNo() {
+    int end = Math.min(OFF_TERMINAL_NO + 14, data.limit());
+    int from = trimStart(OFF_TERMINAL_NO, end);
+    int to = trimEnd(from, end);
+    if (to - from > 4) {
+      from = to - 4;
+    }
+    return string(from, to - from);
+  }
+
+  public String issuerInfo() {
+    return ascii(OFF_ISSUER, 20, true);
+  }
+
+  public String acquirerInfo() {
+    return ascii(OFF_ACQUIRER, 20, true);
+  }
+
+  /** 추가 응답 메시지/부가정보 (없거나 공백뿐이면 null) */
+  public String vanExtraRaw() {
+    int len = data.limit();
+    if (len <= OFF_VAN_EXTRA) {
+      return null;
+    }
+    String extra = ascii(OFF_VAN_EXTRA, len - OFF_VAN_EXTRA, true);
+    return extra.isEmpty() ? null : extra;
+  }
+
+  /** 모든 필드를 채운 불변 레코드로 복사한다. (뷰 밖에서 보관해야 할 때) */
+  public TL3800ApprovalInfo toApprovalInfo() {
+    return new TL3800ApprovalInfo(
+        terminalId(),
+        responseCode(),
+        tranTypeCode(),
+        mediaType(),
+        approvedAmount(),
+        vatAmount(),
+        svcAmount(),
+        installment(),
+        approvalNoRaw(),
+        approvalNo(),
+        approvedDate(),
+        approvedTime(),
+        vanTransactionId(),
+        terminalNo(),
+        terminalSeqNo(),
+        cardNoMasked(),
+        issuerInfo(),
+        acquirerInfo(),
+        vanExtraRaw());
+  }
+
+  // ===== 내부 =====
+
+  /** 숫자만 골라 파싱 (카드사가 특수문자/공백 섞어 보내도 방어), 숫자가 없거나 int 범위를 넘으면 0 */
+  private int parseAmount(int offset, int length) {
+    long value = AsciiNumbers.parseDigits(data, offset, Math.min(offset + length, data.limit()));
+    if (value < 0 || value > Integer.MAX_VALUE) {
+      // 비정상적인 값(예: 날짜 등)이 들어온 경우 방어적으로 0 처리
+      return 0;
+    }
+    return (int) value;
+  }
+
+  private void resolveDateTime() {
+    if (dateTimeResolved) {
+      return;
+    }
+    dateTimeResolved = true;
+
+    int limit = data.limit();
+
+    // 1차: 스펙 상 위치(72, 80) 기준으로 시도 (매출일자 8 + 매출시간 6이 연속된 14자리 숫자)
+    if (OFF_TIME + 6 <= limit
+        && AsciiNumbers.isDigits(data, OFF_DATE, OFF_TIME + 6)
+        && data.get(OFF_DATE) == '2'
+        && data.get(OFF_DATE + 1) == '0') {
+      approvedDate = AsciiNumbers.parseYyyyMMdd(data, OFF_DATE);
+      approvedTime = AsciiNumbers.parseHHmmss(data, OFF_TIME);
+      if (approvedDate != null && approvedTime != null) {
+        return;
+      }
+      // 형식은 맞지만 존재하지 않는 일시면 아래 검색 없이 현재 시각으로 대체
+    } else {
+      // 2차: 데이터 전체에서 "YYYYMMDDHHMMSS" 후보 검색 (첫 번째 유효한 후보 사용)
+      int i = AsciiNumbers.indexOfDateTime14(data, 0, limit);
+      while (i >= 0) {
+        LocalDate foundDate = AsciiNumbers.parseYyyyMMdd(data, i);
+        LocalTime foundTime = AsciiNumbers.parseHHmmss(data, i + 8);
+        if (foundDate != null && foundTime != null) {
+          approvedDate = foundDate;
+          approvedTime = foundTime;
+          TL3800Metrics.DATE_FROM_SEARCH.increment();
+          return;
+        }
+        i = AsciiNumbers.indexOfDateTime14(data, i + 14, limit);
+      }
+    }
+
+    // 최후 방어: 장애 내지 말고 현재 시각으로 대체
+    TL3800Metrics.DATE_FROM_NOW.increment();
+    LocalDateTime now = LocalDateTime.now();
+    approvedDate = now.toLocalDate();
+    approvedTime = now.toLocalTime();
+  }
+
+  /** 범위 체크 포함한 방어적 ASCII 추출 (trim 시 앞뒤 공백/제어문자는 바이트 단계에서 제외) */
+  private String ascii(int offset, int length, boolean trim) {
+    int end = Math.min(offset + length, data.limit());
+    if (offset >= end) {
+      return "";
+    }
+    if (!trim) {
+      return string(offset, end - offset);
+    }
+    int from = trimStart(offset, end);
+    return string(from, trimEnd(from, end) - from);
+  }
+
+  // String.trim()과 같은 기준(<= 0x20)으로 앞/뒤 경계를 구한다.
+  private int trimStart(int from, int end) {
+    while (from < end && (data.get(from) & 0xFF) <= 0x20) {
+      from++;
+    }
+    return from;
+  }
+
+  private int trimEnd(int from, int end) {
+    while (end > from && (data.get(end - 1) & 0xFF) <= 0x20) {
+      end--;
+    }
+    return end;
+  }
+
+  private String string(int offset, int length) {
+    if (length <= 0) {
+      return "";
+    }
+    if (scratch.length < length) {
+      scratch = new byte[Math.max(length, scratch.length * 2)];
+    }
+    data.get(offset, scratch, 0, length);
+    return new String(scratch, 0, length, US_ASCII);
+  }
+}
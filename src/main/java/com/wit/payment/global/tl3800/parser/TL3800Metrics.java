@@ -0,0 +1,58 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * TL3800 승인 응답 파싱 지표.
+ *
+ * <p>파서는 정적 팩토리라 빈을 주입받을 수 없으므로 전역 레지스트리(Metrics.globalRegistry)에 등록한다. Spring Boot가 애플리케이션
+ * 레지스트리를 전역 레지스트리에 연결하므로 Actuator로 그대로 노출된다. (레지스트리가 없으면 no-op)
+ */
+final class TL3800Metrics {
+
+  private static final String PARSE = "tl3800.parse";
+  private static final String DATE_FALLBACK = "tl3800.approval.date.fallback";
+
+  private static final Timer PARSE_SUCCESS =
+      Timer.builder(PARSE)
+          .description("TL 패킷 HEX 디코딩 + strict 프레임 검증 소요 시간")
+          .tag("outcome", "success")
+          .tag("exception", "none")
+          .register(Metrics.globalRegistry);
+
+  /** 스펙 위치가 아닌 데이터 검색으로 매출일시를 찾음 */
+  static final Counter DATE_FROM_SEARCH =
+      Counter.builder(DATE_FALLBACK)
+          .description("매출일시를 스펙 위치에서 읽지 못해 대체 경로를 쓴 횟수")
+          .tag("path", "search")
+          .register(Metrics.globalRegistry);
+
+  /** 매출일시를 찾지 못해 현재 시각으로 대체 */
+  static final Counter DATE_FROM_NOW =
+      Counter.builder(DATE_FALLBACK)
+          .description("매출일시를 스펙 위치에서 읽지 못해 대체 경로를 쓴 횟수")
+          .tag("path", "now")
+          .register(Metrics.globalRegistry);
+
+  private TL3800Metrics() {}
+
+  static void parsed(long startNanos) {
+    PARSE_SUCCESS.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  static void parseFailed(long startNanos, RuntimeException e) {
+    Timer.builder(PARSE)
+        .description("TL 패킷 HEX 디코딩 + strict 프레임 검증 소요 시간")
+        .tag("outcome", "failure")
+        .tag("exception", e.getClass().getSimpleName())
+        .register(Metrics.globalRegistry)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+}
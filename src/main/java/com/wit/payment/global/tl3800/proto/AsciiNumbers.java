@@ -0,0 +1,139 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+
+/**
+ * TL3800 전문의 ASCII 숫자 필드 파서.
+ *
+ * <p>정규식/{@code DateTimeFormatter}/중간 String 없이 버퍼의 절대 인덱스를 한 번만 훑는다. 버퍼의 position/limit은 변경하지 않는다.
+ */
+public final class AsciiNumbers {
+
+  private AsciiNumbers() {}
+
+  /** {@link #parseDigits}에서 long 범위를 넘은 경우 */
+  public static final long OVERFLOW = -1L;
+
+  /** [from, to) 범위가 모두 ASCII 숫자인지 (빈 범위는 false) */
+  public static boolean isDigits(ByteBuffer buf, int from, int to) {
+    if (from >= to) {
+      return false;
+    }
+    for (int i = from; i < to; i++) {
+      if (!isDigit(buf.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * [from, to) 범위에서 숫자가 아닌 바이트는 건너뛰고 숫자만 이어 붙여 long으로 파싱한다. (예: {@code " 12,000 "} → 12000)
+   *
+   * @return 파싱 결과, 숫자가 없으면 0, long 범위를 넘으면 {@link #OVERFLOW}
+   */
+  public static long parseDigits(ByteBuffer buf, int from, int to) {
+    long value = 0;
+    for (int i = from; i < to; i++) {
+      int d = buf.get(i) - '0';
+      if (d < 0 || d > 9) {
+        continue;
+      }
+      if (value > (Long.MAX_VALUE - d) / 10) {
+        return OVERFLOW;
+      }
+      value = value * 10 + d;
+    }
+    return value;
+  }
+
+  /**
+   * offset부터 len 바이트가 모두 숫자인 고정 길이 필드를 파싱한다. (len은 최대 9)
+   *
+   * @return 파싱 결과, 숫자가 아닌 바이트가 있으면 -1
+   */
+  public static int parseFixed(ByteBuffer buf, int offset, int len) {
+    int value = 0;
+    for (int i = offset; i < offset + len; i++) {
+      int d = buf.get(i) - '0';
+      if (d < 0 || d > 9) {
+        return -1;
+      }
+      value = value * 10 + d;
+    }
+    return value;
+  }
+
+  /**
+   * yyyyMMdd 8바이트를 LocalDate로 파싱한다. ({@code DateTimeFormatter.BASIC_ISO_DATE}와 같은 strict 기준)
+   *
+   * @return 숫자가 아니거나 존재하지 않는 날짜면 null
+   */
+  public static LocalDate parseYyyyMMdd(ByteBuffer buf, int offset) {
+    int year = parseFixed(buf, offset, 4);
+    int month = parseFixed(buf, offset + 4, 2);
+    int day = parseFixed(buf, offset + 6, 2);
+    if (year < 0 || month < 1 || month > 12 || day < 1) {
+      return null;
+    }
+    if (day > 28 && day > lengthOfMonth(year, month)) {
+      return null;
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  /**
+   * HHmmss 6바이트를 LocalTime으로 파싱한다. ({@code DateTimeFormatter.ofPattern("HHmmss")}의 SMART 기준과 동일하게
+   * "240000"은 00:00으로 본다)
+   *
+   * @return 숫자가 아니거나 범위를 벗어나면 null
+   */
+  public static LocalTime parseHHmmss(ByteBuffer buf, int offset) {
+    int hour = parseFixed(buf, offset, 2);
+    int minute = parseFixed(buf, offset + 2, 2);
+    int second = parseFixed(buf, offset + 4, 2);
+    if (hour < 0 || minute < 0 || second < 0 || minute > 59 || second > 59) {
+      return null;
+    }
+    if (hour == 24 && minute == 0 && second == 0) {
+      return LocalTime.MIDNIGHT;
+    }
+    if (hour > 23) {
+      return null;
+    }
+    return LocalTime.of(hour, minute, second);
+  }
+
+  /**
+   * [from, to) 범위에서 "20"으로 시작하는 14자리 숫자(YYYYMMDDhhmmss) 후보의 시작 위치를 찾는다. 정규식 {@code 20\d{12}}의
+   * find()와 같은 순서로 후보를 돌려준다. 후보가 유효하지 않아 다음 후보를 찾을 때는 {@code 이전 위치 + 14}부터 다시 호출한다.
+   *
+   * @return 후보 시작 위치, 없으면 -1
+   */
+  public static int indexOfDateTime14(ByteBuffer buf, int from, int to) {
+    for (int i = from; i + 14 <= to; i++) {
+      if (buf.get(i) == '2' && buf.get(i + 1) == '0' && isDigits(buf, i + 2, i + 14)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isDigit(byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    return switch (month) {
+      case 2 -> Year.isLeap(year) ? 29 : 28;
+      case 4, 6, 9, 11 -> 30;
+      default -> 31;
+    };
+  }
+}
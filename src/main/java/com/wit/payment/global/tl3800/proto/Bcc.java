@@ -0,0 +1,61 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * BCC(XOR) 계산기.
+ *
+ * <p>8바이트씩 long으로 읽어 XOR을 누적한 뒤 마지막에 한 바이트로 접는다. XOR은 순서와 무관하므로 바이트 순서(엔디안)와 상관없이 바이트 단위 XOR과
+ * 결과가 항상 같다.
+ */
+public final class Bcc {
+
+  private Bcc() {}
+
+  private static final VarHandle LONGS =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** [from, toInclusive] 범위 XOR */
+  public static byte xor(byte[] src, int from, int toInclusive) {
+    int end = toInclusive + 1;
+    long acc = 0L;
+    int i = from;
+    for (; i + Long.BYTES <= end; i += Long.BYTES) {
+      acc ^= (long) LONGS.get(src, i);
+    }
+    byte x = fold(acc);
+    for (; i < end; i++) {
+      x ^= src[i];
+    }
+    return x;
+  }
+
+  /** [from, toInclusive] 범위 XOR (절대 인덱스, 버퍼 position 변경 없음) */
+  public static byte xor(ByteBuffer src, int from, int toInclusive) {
+    int end = toInclusive + 1;
+    long acc = 0L;
+    int i = from;
+    for (; i + Long.BYTES <= end; i += Long.BYTES) {
+      acc ^= src.getLong(i);
+    }
+    byte x = fold(acc);
+    for (; i < end; i++) {
+      x ^= src.get(i);
+    }
+    return x;
+  }
+
+  /** long 8바이트를 XOR로 1바이트에 접는다. */
+  private static byte fold(long v) {
+    v ^= v >>> 32;
+    v ^= v >>> 16;
+    v ^= v >>> 8;
+    return (byte) v;
+  }
+}
@@ -0,0 +1,76 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import static com.wit.payment.global.tl3800.proto.Proto.DATETIME_LEN;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 헤더 일시(YYYYMMDDhhmmss, 14 ASCII)를 초 단위로 캐시한다.
+ *
+ * <p>같은 초 안의 프레임은 미리 만들어 둔 14바이트를 그대로 복사하므로 포맷터/문자열을 만들지 않는다. 초가 바뀔 때만 새 스탬프를 만든다. (thread-safe)
+ */
+public final class DateTimeStamp {
+
+  private static final DateTimeStamp SYSTEM = new DateTimeStamp(Clock.systemDefaultZone());
+
+  private final Clock clock;
+  private volatile Cached cached = new Cached(Long.MIN_VALUE, new byte[DATETIME_LEN]);
+
+  public DateTimeStamp(Clock clock) {
+    this.clock = clock;
+  }
+
+  /** 시스템 기본 시간대 기준 공용 인스턴스 */
+  public static DateTimeStamp system() {
+    return SYSTEM;
+  }
+
+  /** dst의 index 위치에 현재 일시 14바이트를 쓴다. (절대 인덱스, position 변경 없음) */
+  public void writeTo(ByteBuffer dst, int index) {
+    dst.put(index, current());
+  }
+
+  /** 현재 일시 문자열 (YYYYMMDDhhmmss) */
+  public String nowString() {
+    return new String(current(), StandardCharsets.US_ASCII);
+  }
+
+  private byte[] current() {
+    long second = Math.floorDiv(clock.millis(), 1000L);
+    Cached c = cached;
+    if (c.epochSecond != second) {
+      LocalDateTime t = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), clock.getZone());
+      c = new Cached(second, format(t));
+      cached = c;
+    }
+    return c.bytes;
+  }
+
+  private static byte[] format(LocalDateTime t) {
+    byte[] b = new byte[DATETIME_LEN];
+    digits(b, 0, t.getYear(), 4);
+    digits(b, 4, t.getMonthValue(), 2);
+    digits(b, 6, t.getDayOfMonth(), 2);
+    digits(b, 8, t.getHour(), 2);
+    digits(b, 10, t.getMinute(), 2);
+    digits(b, 12, t.getSecond(), 2);
+    return b;
+  }
+
+  private static void digits(byte[] dst, int offset, int value, int width) {
+    for (int i = offset + width - 1; i >= offset; i--) {
+      dst[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  // 초(epochSecond)와 해당 초의 스탬프를 한 번에 교체하기 위한 불변 쌍
+  private record Cached(long epochSecond, byte[] bytes) {}
+}
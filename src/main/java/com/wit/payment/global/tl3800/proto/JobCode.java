@@ -59,17 +59,65 @@ public enum JobCode {
 
   public final char code;
 
+  // code(0~255) → JobCode, 없는 코드는 null
+  private static final JobCode[] BY_CODE = new JobCode[256];
+  // 요청 ↔ 응답 짝 (ordinal 기준), 응답이 없는 요청(H, R)과 이벤트는 null
+  private static final JobCode[] PAIR;
+
+  static {
+    JobCode[] all = values();
+    for (JobCode jc : all) {
+      BY_CODE[jc.code] = jc;
+    }
+    PAIR = new JobCode[all.length];
+    for (JobCode jc : all) {
+      if (jc.isRequest()) {
+        PAIR[jc.ordinal()] = BY_CODE[Character.toLowerCase(jc.code)];
+      } else if (jc.isResponse()) {
+        PAIR[jc.ordinal()] = BY_CODE[Character.toUpperCase(jc.code)];
+      }
+    }
+  }
+
   JobCode(char c) {
     this.code = c;
   }
 
   public static JobCode of(byte b) {
-    char c = (char) b;
-    for (JobCode jc : values()) {
-      if (jc.code == c) {
-        return jc;
-      }
+    JobCode jc = BY_CODE[b & 0xFF];
+    if (jc == null) {
+      throw new IllegalArgumentException("Unknown JobCode: " + (int) b);
     }
-    throw new IllegalArgumentException("Unknown JobCode: " + (int) b);
+    return jc;
+  }
+
+  /** 알 수 없는 코드면 null (스트림 재동기화 등 예외 없이 판별해야 하는 곳에서 사용) */
+  static JobCode find(byte b) {
+    return BY_CODE[b & 0xFF];
+  }
+
+  /** 요청 (대문자) */
+  public boolean isRequest() {
+    return code >= 'A' && code <= 'Z';
+  }
+
+  /** 응답 (소문자) */
+  public boolean isResponse() {
+    return code >= 'a' && code <= 'z';
+  }
+
+  /** 이벤트 '@' (ACK/NACK 미전송) */
+  public boolean isEvent() {
+    return this == EVENT;
+  }
+
+  /** 요청에 대한 응답 코드 (A → a). 응답이 없는 요청(H, R)이거나 요청이 아니면 null */
+  public JobCode response() {
+    return isRequest() ? PAIR[ordinal()] : null;
+  }
+
+  /** 응답에 대한 요청 코드 (a → A). 응답이 아니면 null */
+  public JobCode request() {
+    return isResponse() ? PAIR[ordinal()] : null;
   }
 }
@@ -53,21 +53,24 @@ public final class Proto {
     return dst;
   }
 
+  private static final DateTimeFormatter DATETIME14 = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
   public static String nowYYYYMMDDhhmmss() {
-    return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+    return LocalDateTime.now().format(DATETIME14);
   }
 
   public static String nowYYYYMMDD() {
     return LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE); // yyyyMMdd
   }
 
-  /** STX ~ ETX(포함)까지 XOR. */
+  /** STX ~ ETX(포함)까지 XOR. (8바이트 단위, {@link Bcc}) */
   public static byte bccXor(byte[] frame, int from, int toInclusive) {
-    byte x = 0x00;
-    for (int i = from; i <= toInclusive; i++) {
-      x ^= frame[i];
-    }
-    return x;
+    return Bcc.xor(frame, from, toInclusive);
+  }
+
+  /** STX ~ ETX(포함)까지 XOR. (절대 인덱스, 버퍼 position 변경 없음) */
+  public static byte bccXor(ByteBuffer frame, int from, int toInclusive) {
+    return Bcc.xor(frame, from, toInclusive);
   }
 
   public static byte[] leUShort(int v) {
@@ -77,8 +80,7 @@ public final class Proto {
   }
 
   public static int leUShortToInt(byte lo, byte hi) {
-    return (ByteBuffer.wrap(new byte[] {lo, hi}).order(ByteOrder.LITTLE_ENDIAN).getShort())
-        & 0xFFFF;
+    return (lo & 0xFF) | ((hi & 0xFF) << 8);
   }
 
   public static String printableOrHex(byte[] bytes) {
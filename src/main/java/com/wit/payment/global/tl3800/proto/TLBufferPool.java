@@ -0,0 +1,57 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 프레임 송신용 ByteBuffer 풀.
+ *
+ * <p>최대 maxPooled개까지만 보관하고, 비어 있으면 새로 만들며, 가득 차 있으면 반납된 버퍼를 버린다(GC에 맡김). bufferSize보다 큰 프레임은 풀을 거치지
+ * 않고 필요한 크기로 한 번만 만든다. (thread-safe)
+ */
+public final class TLBufferPool {
+
+  /** 기본 버퍼 크기: 데이터 1024바이트까지의 프레임 (상태 조회/카드 체크/승인 요청 등) */
+  public static final int DEFAULT_BUFFER_SIZE = TLFrameEncoder.frameLength(1024);
+
+  private final int bufferSize;
+  private final ArrayBlockingQueue<ByteBuffer> pool;
+
+  public TLBufferPool(int maxPooled) {
+    this(maxPooled, DEFAULT_BUFFER_SIZE);
+  }
+
+  public TLBufferPool(int maxPooled, int bufferSize) {
+    this.bufferSize = bufferSize;
+    this.pool = new ArrayBlockingQueue<>(maxPooled);
+  }
+
+  /** 쓰기 모드(position 0, limit = capacity)의 버퍼 */
+  public ByteBuffer acquire() {
+    ByteBuffer buf = pool.poll();
+    return buf != null ? buf : ByteBuffer.allocate(bufferSize);
+  }
+
+  /** minCapacity 이상인 버퍼 */
+  public ByteBuffer acquire(int minCapacity) {
+    if (minCapacity > bufferSize) {
+      return ByteBuffer.allocate(minCapacity);
+    }
+    return acquire();
+  }
+
+  public void release(ByteBuffer buf) {
+    if (buf == null || buf.capacity() != bufferSize || buf.isReadOnly()) {
+      return;
+    }
+    pool.offer(buf.clear());
+  }
+
+  /** 현재 보관 중인 버퍼 수 */
+  public int pooled() {
+    return pool.size();
+  }
+}
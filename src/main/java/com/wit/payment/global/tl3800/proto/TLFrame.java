@@ -0,0 +1,146 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import static com.wit.payment.global.tl3800.proto.Proto.CATMID_LEN;
+import static com.wit.payment.global.tl3800.proto.Proto.DATETIME_LEN;
+import static com.wit.payment.global.tl3800.proto.Proto.ETX;
+import static com.wit.payment.global.tl3800.proto.Proto.HEADER_BYTES;
+import static com.wit.payment.global.tl3800.proto.Proto.STX;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 검증이 끝난 TL3800 프레임(STX~BCC)에 대한 읽기 전용 뷰.
+ *
+ * <p>{@link TLPacket}과 달리 ID/일시/데이터를 별도 배열로 복사하지 않고, 원본 버퍼의 고정 오프셋을 그대로 읽는다. 뷰는 원본 버퍼를 공유하므로
+ * 원본이 재사용되는 경우(예: {@link TLFrameDecoder}의 콜백) 콜백 밖에서 보관하려면 {@link #toPacket()} 등으로 복사해야 한다.
+ */
+public final class TLFrame {
+
+  // 고정 오프셋(프로토콜 기준)
+  static final int POS_STX = 0; // 0x02
+  static final int POS_ID = 1; // 16 bytes
+  static final int POS_DT = POS_ID + CATMID_LEN; // 14 bytes
+  static final int POS_JOB = POS_DT + DATETIME_LEN; // 1 byte
+  static final int POS_RSP = POS_JOB + 1; // 1 byte
+  static final int POS_LEN = POS_RSP + 1; // 2 bytes (little-endian)
+
+  private final ByteBuffer buf; // index 0 = STX, limit = BCC 다음 위치
+
+  private TLFrame(ByteBuffer buf) {
+    this.buf = buf;
+  }
+
+  /**
+   * 버퍼의 position부터 시작하는 프레임을 strict 모드로 검증하고 뷰를 만든다. (STX/ETX/BCC/길이)
+   *
+   * <p>버퍼의 position/limit은 변경하지 않으며, 프레임 뒤에 남는 바이트는 무시한다.
+   *
+   * @throws IllegalArgumentException 프레임이 짧거나 STX/ETX/BCC/JobCode가 올바르지 않은 경우
+   */
+  public static TLFrame of(ByteBuffer src) {
+    int base = src.position();
+    int available = src.remaining();
+
+    if (available < HEADER_BYTES + 2) {
+      throw new IllegalArgumentException("short frame: len=" + available);
+    }
+    if ((src.get(base + POS_STX) & 0xFF) != (STX & 0xFF)) {
+      throw new IllegalArgumentException(String.format("STX mismatch: %02X", src.get(base)));
+    }
+
+    // JobCode 유효성 (알 수 없는 코드면 IllegalArgumentException)
+    JobCode.of(src.get(base + POS_JOB));
+
+    int dataLen = dataLength(src, base);
+
+    // ETX/BCC 위치 계산
+    int posEtx = HEADER_BYTES + dataLen; // 데이터 바로 뒤
+    int posBcc = posEtx + 1;
+    int expectedTotal = posBcc + 1;
+
+    if (available < expectedTotal) {
+      throw new IllegalArgumentException(
+          String.format(
+              "incomplete frame: len=%d, expected=%d (dataLen=%d)",
+              available, expectedTotal, dataLen));
+    }
+    if ((src.get(base + posEtx) & 0xFF) != (ETX & 0xFF)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "ETX mismatch at %d: %02X (dataLen=%d, headerLen=%d)",
+              posEtx, src.get(base + posEtx), dataLen, HEADER_BYTES));
+    }
+
+    // BCC 검증 (STX~ETX 포함)
+    byte calcBcc = Proto.bccXor(src, base + POS_STX, base + posEtx);
+    int recvBcc = src.get(base + posBcc) & 0xFF;
+    if ((calcBcc & 0xFF) != recvBcc) {
+      throw new IllegalArgumentException(
+          String.format(
+              "BCC mismatch (calc=%02X, recv=%02X, etxPos=%d, dataLen=%d, total=%d, buf.len=%d)",
+              calcBcc & 0xFF, recvBcc, posEtx, dataLen, expectedTotal, available));
+    }
+
+    return new TLFrame(src.slice(base, expectedTotal).asReadOnlyBuffer());
+  }
+
+  /** 이미 검증된 영역(index 0 = STX, limit = 프레임 길이)을 그대로 감싼다. */
+  static TLFrame wrapValidated(ByteBuffer frame) {
+    return new TLFrame(frame.asReadOnlyBuffer());
+  }
+
+  /** 헤더의 DataLength(LE)를 읽는다. base는 STX 위치. */
+  static int dataLength(ByteBuffer src, int base) {
+    return (src.get(base + POS_LEN) & 0xFF) | ((src.get(base + POS_LEN + 1) & 0xFF) << 8);
+  }
+
+  /** STX~BCC 전체 길이 */
+  public int length() {
+    return buf.limit();
+  }
+
+  public JobCode jobCode() {
+    return JobCode.of(buf.get(POS_JOB));
+  }
+
+  public byte responseCode() {
+    return buf.get(POS_RSP);
+  }
+
+  public int dataLength() {
+    return dataLength(buf, 0);
+  }
+
+  /** 데이터 영역의 index번째 바이트 (0 = 데이터 첫 바이트) */
+  public byte dataByte(int index) {
+    return buf.get(HEADER_BYTES + index);
+  }
+
+  /** 프레임 전체(STX~BCC)에 대한 읽기 전용 뷰 */
+  public ByteBuffer frame() {
+    return buf.duplicate();
+  }
+
+  /** 헤더 CAT/MID(16바이트) 영역에 대한 읽기 전용 뷰 */
+  public ByteBuffer catOrMid() {
+    return buf.slice(POS_ID, CATMID_LEN);
+  }
+
+  /** 헤더 일시(14바이트, YYYYMMDDhhmmss) 영역에 대한 읽기 전용 뷰 */
+  public ByteBuffer dateTime() {
+    return buf.slice(POS_DT, DATETIME_LEN);
+  }
+
+  /** 데이터 영역에 대한 읽기 전용 뷰 */
+  public ByteBuffer data() {
+    return buf.slice(HEADER_BYTES, dataLength());
+  }
+
+  /** 원본 버퍼와 분리된 {@link TLPacket}으로 복사한다. */
+  public TLPacket toPacket() {
+    return TLPacket.fromFrame(this);
+  }
+}
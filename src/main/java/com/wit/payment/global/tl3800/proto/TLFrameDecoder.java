@@ -0,0 +1,209 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import static com.wit.payment.global.tl3800.proto.Proto.ETX;
+import static com.wit.payment.global.tl3800.proto.Proto.HEADER_BYTES;
+import static com.wit.payment.global.tl3800.proto.Proto.STX;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 시리얼/TCP 등에서 임의 크기로 잘려 들어오는 바이트 청크를 TL3800 프레임 단위로 조립하는 증분 디코더.
+ *
+ * <p>청크 안에 프레임이 온전히 들어 있으면 중간 배열 없이 입력 버퍼의 읽기 전용 slice를 {@link TLFrame}으로 감싸 바로 전달한다. 청크 경계에 걸친
+ * 프레임만 내부 버퍼(최대 프레임 크기 1개)에 필요한 바이트만큼 이어 붙여 조립한다.
+ *
+ * <ul>
+ *   <li>STX 이전의 쓰레기 바이트, ETX/BCC/JobCode/길이가 올바르지 않은 프레임은 STX 1바이트를 버리고 다음 STX부터 재동기화한다.
+ *   <li>sink로 전달되는 프레임은 콜백 안에서만 유효하다. 보관하려면 {@link TLFrame#toPacket()}으로 복사한다.
+ *   <li>연결(스트림)당 하나씩 사용하며 thread-safe 하지 않다.
+ * </ul>
+ */
+public final class TLFrameDecoder {
+
+  /** 기본 최대 데이터 길이 (승인 응답 + VAN 부가정보를 충분히 수용) */
+  public static final int DEFAULT_MAX_DATA_LENGTH = 4096;
+
+  private static final int NEED_MORE = -1;
+  private static final int CORRUPT = -2;
+
+  private final int maxDataLength;
+  private final Consumer<TLFrame> sink;
+
+  // 청크 경계에 걸친 프레임 조립용 (쓰기 모드, [0, position) 구간이 보류 중인 바이트, 항상 STX로 시작)
+  private final ByteBuffer pending;
+
+  private long frames;
+  private long corruptFrames;
+  private long droppedBytes;
+
+  public TLFrameDecoder(Consumer<TLFrame> sink) {
+    this(DEFAULT_MAX_DATA_LENGTH, sink);
+  }
+
+  public TLFrameDecoder(int maxDataLength, Consumer<TLFrame> sink) {
+    if (maxDataLength < 0 || maxDataLength > 0xFFFF) {
+      throw new IllegalArgumentException("maxDataLength must be 0..65535: " + maxDataLength);
+    }
+    if (sink == null) {
+      throw new IllegalArgumentException("sink is required");
+    }
+    this.maxDataLength = maxDataLength;
+    this.sink = sink;
+    this.pending = ByteBuffer.allocate(HEADER_BYTES + maxDataLength + 2);
+  }
+
+  /**
+   * 입력 청크를 소비하며 완성된 프레임을 sink로 전달한다. 호출 후 {@code in}의 position은 limit까지 이동한다.
+   *
+   * <p>sink에서 발생한 예외는 그대로 전파된다.
+   */
+  public void decode(ByteBuffer in) {
+    if (pending.position() > 0) {
+      drainPending(in);
+      if (pending.position() > 0) {
+        // 입력을 모두 소비했지만 아직 프레임이 완성되지 않음
+        return;
+      }
+    }
+
+    // fast path: 청크 안에서 완결되는 프레임은 복사 없이 slice로 전달
+    int pos = in.position();
+    int limit = in.limit();
+    while (pos < limit) {
+      if (in.get(pos) != STX) {
+        droppedBytes++;
+        pos++;
+        continue;
+      }
+      int len = check(in, pos, limit);
+      if (len == NEED_MORE) {
+        break;
+      }
+      if (len == CORRUPT) {
+        corruptFrames++;
+        droppedBytes++;
+        pos++;
+        continue;
+      }
+      emit(in.slice(pos, len));
+      pos += len;
+    }
+
+    // 남은 부분 프레임은 보류 (check가 최대 길이를 보장하므로 pending 용량을 넘지 않는다)
+    if (pos < limit) {
+      pending.put(in.slice(pos, limit - pos));
+    }
+    in.position(limit);
+  }
+
+  /** 보류 중인 부분 프레임을 버린다. (연결 재수립 등) */
+  public void reset() {
+    droppedBytes += pending.position();
+    pending.clear();
+  }
+
+  /** 보류 중(미완성 프레임)인 바이트 수 */
+  public int pendingBytes() {
+    return pending.position();
+  }
+
+  /** 전달된 프레임 수 */
+  public long frames() {
+    return frames;
+  }
+
+  /** ETX/BCC/JobCode/길이 오류로 버려진 프레임 후보 수 */
+  public long corruptFrames() {
+    return corruptFrames;
+  }
+
+  /** 재동기화 과정에서 버려진 바이트 수 */
+  public long droppedBytes() {
+    return droppedBytes;
+  }
+
+  /** 보류 버퍼에 필요한 만큼만 입력을 이어 붙이며 프레임을 완성한다. 보류 버퍼가 비면 반환한다. */
+  private void drainPending(ByteBuffer in) {
+    while (pending.position() > 0) {
+      int held = pending.position();
+      int len = check(pending, 0, held);
+
+      if (len == CORRUPT) {
+        corruptFrames++;
+        droppedBytes++;
+        discardPending(1);
+        continue;
+      }
+      if (len > 0) {
+        emit(pending.slice(0, len));
+        discardPending(len);
+        continue;
+      }
+
+      // NEED_MORE: 헤더 또는 프레임 전체를 채우는 데 필요한 만큼만 복사
+      if (!in.hasRemaining()) {
+        return;
+      }
+      int need =
+          held < HEADER_BYTES
+              ? HEADER_BYTES - held
+              : HEADER_BYTES + TLFrame.dataLength(pending, 0) + 2 - held;
+      int n = Math.min(need, in.remaining());
+      pending.put(in.slice(in.position(), n));
+      in.position(in.position() + n);
+    }
+  }
+
+  /** 보류 버퍼 앞쪽 n바이트를 버리고, 다음 STX 이전 바이트까지 함께 버린다. */
+  private void discardPending(int n) {
+    int held = pending.position();
+    int next = n;
+    while (next < held && pending.get(next) != STX) {
+      next++;
+    }
+    droppedBytes += next - n;
+    pending.flip();
+    pending.position(next);
+    pending.compact();
+  }
+
+  private void emit(ByteBuffer frame) {
+    frames++;
+    sink.accept(TLFrame.wrapValidated(frame));
+  }
+
+  /**
+   * base 위치(STX)부터 limit 전까지에서 프레임을 검증한다.
+   *
+   * @return 완결된 프레임 길이, 바이트가 부족하면 {@link #NEED_MORE}, 올바르지 않으면 {@link #CORRUPT}
+   */
+  private int check(ByteBuffer buf, int base, int limit) {
+    int available = limit - base;
+    if (available < HEADER_BYTES) {
+      return NEED_MORE;
+    }
+    if (JobCode.find(buf.get(base + TLFrame.POS_JOB)) == null) {
+      return CORRUPT;
+    }
+    int dataLen = TLFrame.dataLength(buf, base);
+    if (dataLen > maxDataLength) {
+      return CORRUPT;
+    }
+    int posEtx = HEADER_BYTES + dataLen;
+    int total = posEtx + 2;
+    if (available < total) {
+      return NEED_MORE;
+    }
+    if (buf.get(base + posEtx) != ETX) {
+      return CORRUPT;
+    }
+    if (Proto.bccXor(buf, base, base + posEtx) != buf.get(base + posEtx + 1)) {
+      return CORRUPT;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,125 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import static com.wit.payment.global.tl3800.proto.Proto.CATMID_LEN;
+import static com.wit.payment.global.tl3800.proto.Proto.DATETIME_LEN;
+import static com.wit.payment.global.tl3800.proto.Proto.ETX;
+import static com.wit.payment.global.tl3800.proto.Proto.HEADER_BYTES;
+import static com.wit.payment.global.tl3800.proto.Proto.STX;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 단말(CAT/MID)별 프레임 인코더. 호출자가 준 ByteBuffer(또는 {@link TLBufferPool}의 버퍼)에 STX~BCC 전체를 바로 쓴다.
+ *
+ * <p>CAT/MID 16바이트는 생성 시 한 번만 만들어 두고, 헤더 일시는 {@link DateTimeStamp}의 초 단위 캐시를 복사한다. 상태 조회/카드 체크(D)처럼
+ * 요청이 잦은 흐름에서 프레임마다 배열/문자열을 만들지 않는다. (인스턴스는 불변이라 thread-safe)
+ */
+public final class TLFrameEncoder {
+
+  private final byte[] catOrMid; // 16 bytes, 좌정렬, 0x00 패딩
+  private final DateTimeStamp stamp;
+
+  public TLFrameEncoder(String catOrMid) {
+    this(catOrMid, DateTimeStamp.system());
+  }
+
+  public TLFrameEncoder(String catOrMid, DateTimeStamp stamp) {
+    if (catOrMid == null) {
+      throw new IllegalArgumentException("catOrMid is required");
+    }
+    this.catOrMid = new byte[CATMID_LEN];
+    byte[] idBytes = catOrMid.getBytes(StandardCharsets.US_ASCII);
+    System.arraycopy(idBytes, 0, this.catOrMid, 0, Math.min(idBytes.length, CATMID_LEN));
+    this.stamp = stamp;
+  }
+
+  /** 데이터 길이가 dataLength인 프레임의 전체 길이 (헤더 + 데이터 + ETX + BCC) */
+  public static int frameLength(int dataLength) {
+    return HEADER_BYTES + dataLength + 2;
+  }
+
+  /** 데이터 없는 요청 프레임 (예: 상태 조회, 카드 체크) */
+  public int encode(ByteBuffer dst, JobCode job) {
+    return encode(dst, job, (byte) 0x00, null, 0, 0);
+  }
+
+  public int encode(ByteBuffer dst, JobCode job, byte responseCode, byte[] data) {
+    return encode(dst, job, responseCode, data, 0, data == null ? 0 : data.length);
+  }
+
+  /**
+   * dst의 position부터 프레임 전체를 쓰고 position을 프레임 뒤로 옮긴다.
+   *
+   * @return 쓴 바이트 수
+   * @throws BufferOverflowException dst의 남은 공간이 프레임보다 작은 경우 (dst는 변경되지 않음)
+   */
+  public int encode(
+      ByteBuffer dst, JobCode job, byte responseCode, byte[] data, int offset, int length) {
+    int base = dst.position();
+    int total = write(dst, base, catOrMid, job.code, responseCode, data, offset, length);
+    stamp.writeTo(dst, base + 1 + CATMID_LEN);
+    dst.put(base + total - 1, Bcc.xor(dst, base, base + total - 2));
+    dst.position(base + total);
+    return total;
+  }
+
+  /**
+   * 풀에서 버퍼를 빌려 프레임을 쓰고, 읽기 모드(flip)로 돌려준다. 전송 후에는 {@link TLBufferPool#release(ByteBuffer)}로 반납한다.
+   */
+  public ByteBuffer encode(TLBufferPool pool, JobCode job, byte responseCode, byte[] data) {
+    ByteBuffer buf = pool.acquire(frameLength(data == null ? 0 : data.length));
+    try {
+      encode(buf, job, responseCode, data);
+    } catch (RuntimeException e) {
+      pool.release(buf);
+      throw e;
+    }
+    return buf.flip();
+  }
+
+  /**
+   * STX/ID/JobCode/응답코드/길이/데이터/ETX를 절대 인덱스로 쓴다. 일시 영역과 BCC는 호출자가 채운다.
+   *
+   * @return 프레임 전체 길이
+   */
+  private static int write(
+      ByteBuffer dst,
+      int base,
+      byte[] id16,
+      int job,
+      int resp,
+      byte[] data,
+      int offset,
+      int length) {
+    int total = frameLength(length);
+    if (dst.limit() - base < total) {
+      throw new BufferOverflowException();
+    }
+    if (length > 0xFFFF) {
+      throw new IllegalArgumentException("data too long: " + length);
+    }
+
+    int i = base;
+    dst.put(i++, STX);
+    dst.put(i, id16, 0, CATMID_LEN);
+    i += CATMID_LEN + DATETIME_LEN;
+    dst.put(i++, (byte) (job & 0xFF));
+    dst.put(i++, (byte) (resp & 0xFF));
+
+    // DataLength 2B (LE)
+    dst.put(i++, (byte) (length & 0xFF));
+    dst.put(i++, (byte) ((length >>> 8) & 0xFF));
+
+    if (length > 0) {
+      dst.put(i, data, offset, length);
+      i += length;
+    }
+    dst.put(i, ETX);
+    return total;
+  }
+}
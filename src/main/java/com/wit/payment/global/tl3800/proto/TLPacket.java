@@ -9,8 +9,8 @@ import static com.wit.payment.global.tl3800.proto.Proto.ETX;
 import static com.wit.payment.global.tl3800.proto.Proto.HEADER_BYTES;
 import static com.wit.payment.global.tl3800.proto.Proto.STX;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 
 public final class TLPacket {
 
@@ -23,14 +23,6 @@ public final class TLPacket {
   // Tail
   public final byte etx; // 0x03
 
-  // 고정 오프셋(프로토콜 기준)
-  private static final int POS_STX = 0; // 0x02
-  private static final int POS_ID = 1; // 16 bytes
-  private static final int POS_DT = POS_ID + 16; // 14 bytes
-  private static final int POS_JOB = POS_DT + 14; // 1 byte
-  private static final int POS_RSP = POS_JOB + 1; // 1 byte
-  private static final int POS_LEN = POS_RSP + 1; // 2 bytes (little-endian)
-
   private TLPacket(
       String catOrMid, String dateTime14, JobCode jobCode, byte responseCode, byte[] data) {
     this.catOrMid = catOrMid;
@@ -145,62 +137,30 @@ public final class TLPacket {
     return parseStrict(frame);
   }
 
-  /** 프레임 역직렬화(유효성: STX/ETX/BCC/길이). 헤더의 DataLength(LE) 기준으로 ETX/BCC 위치를 계산하여 엄격하게 검증한다. */
+  /**
+   * 프레임 역직렬화(유효성: STX/ETX/BCC/길이). 헤더의 DataLength(LE) 기준으로 ETX/BCC 위치를 계산하여 엄격하게 검증한다. 검증은 {@link
+   * TLFrame#of(ByteBuffer)}와 동일하다.
+   */
   public static TLPacket parseStrict(byte[] frame) {
-    if (frame == null || frame.length < HEADER_BYTES + 2) {
-      throw new IllegalArgumentException("short frame: len=" + (frame == null ? -1 : frame.length));
-    }
-    if ((frame[POS_STX] & 0xFF) != (STX & 0xFF)) {
-      throw new IllegalArgumentException(String.format("STX mismatch: %02X", frame[POS_STX]));
-    }
-
-    // 1) 헤더 필드 파싱
-    int p = POS_ID;
-    byte[] idBytes = Arrays.copyOfRange(frame, p, p + CATMID_LEN);
-    p += CATMID_LEN;
-    byte[] dtBytes = Arrays.copyOfRange(frame, p, p + DATETIME_LEN);
-    p += DATETIME_LEN;
-    JobCode job = JobCode.of(frame[p++]);
-    byte resp = frame[p++];
-
-    // DataLength (LE)
-    int dataLen = (frame[p++] & 0xFF) | ((frame[p++] & 0xFF) << 8);
-
-    // 2) ETX/BCC 위치 계산
-    int posEtx = HEADER_BYTES + dataLen; // 데이터 바로 뒤
-    int posBcc = posEtx + 1;
-    int expectedTotal = posBcc + 1;
-
-    if (frame.length < expectedTotal) {
-      throw new IllegalArgumentException(
-          String.format(
-              "incomplete frame: len=%d, expected=%d (dataLen=%d)",
-              frame.length, expectedTotal, dataLen));
-    }
-    if ((frame[posEtx] & 0xFF) != (ETX & 0xFF)) {
-      throw new IllegalArgumentException(
-          String.format(
-              "ETX mismatch at %d: %02X (dataLen=%d, headerLen=%d)",
-              posEtx, frame[posEtx], dataLen, HEADER_BYTES));
-    }
-
-    // 3) BCC 검증 (STX~ETX 포함)
-    byte calcBcc = Proto.bccXor(frame, POS_STX, posEtx);
-    int recvBcc = frame[posBcc] & 0xFF;
-    if ((calcBcc & 0xFF) != recvBcc) {
-      throw new IllegalArgumentException(
-          String.format(
-              "BCC mismatch (calc=%02X, recv=%02X, etxPos=%d, dataLen=%d, total=%d, buf.len=%d)",
-              calcBcc & 0xFF, recvBcc, posEtx, dataLen, expectedTotal, frame.length));
+    if (frame == null) {
+      throw new IllegalArgumentException("short frame: len=-1");
     }
+    return fromFrame(TLFrame.of(ByteBuffer.wrap(frame)));
+  }
 
-    // 4) 본문 추출
-    byte[] data = Arrays.copyOfRange(frame, HEADER_BYTES, HEADER_BYTES + dataLen);
+  /** 검증된 프레임 뷰에서 헤더/본문을 복사해 패킷을 만든다. (원본 버퍼 재사용과 무관하게 보관 가능) */
+  public static TLPacket fromFrame(TLFrame frame) {
+    byte[] idBytes = new byte[CATMID_LEN];
+    frame.catOrMid().get(idBytes);
+    byte[] dtBytes = new byte[DATETIME_LEN];
+    frame.dateTime().get(dtBytes);
+    byte[] data = new byte[frame.dataLength()];
+    frame.data().get(data);
 
-    // 5) 문자열 필드 정리(우측 0x00 패딩 제거)
+    // 문자열 필드 정리(우측 0x00 패딩 제거)
     String catStr = Proto.printableOrHex(idBytes);
     String dtStr = new String(dtBytes, StandardCharsets.US_ASCII);
 
-    return new TLPacket(catStr, dtStr, job, resp, data);
+    return new TLPacket(catStr, dtStr, frame.jobCode(), frame.responseCode(), data);
   }
 }
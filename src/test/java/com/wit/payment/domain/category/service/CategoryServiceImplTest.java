@@ -0,0 +1,141 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.category.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.wit.payment.domain.category.entity.Category;
+import com.wit.payment.domain.category.mapper.CategoryMapper;
+import com.wit.payment.domain.category.repository.CategoryRepository;
+import com.wit.payment.domain.menu.service.MenuSnapshotCache;
+import com.wit.payment.domain.product.entity.Product;
+import com.wit.payment.domain.product.entity.ProductImage;
+import com.wit.payment.domain.product.repository.ProductRepository;
+import com.wit.payment.domain.product.service.ProductImageReleaser;
+import com.wit.payment.global.s3.entity.StoredImage;
+import com.wit.payment.global.s3.repository.StoredImageRepository;
+import com.wit.payment.global.s3.repository.StoredImageRow;
+import com.wit.payment.global.s3.service.ImageUploadPipeline;
+import com.wit.payment.global.s3.service.S3Service;
+import com.wit.payment.global.s3.service.StoredImageService;
+
+/** 카테고리 삭제(소속 상품 일괄 삭제)도 저장 이미지 참조를 해제하는지 확인한다. */
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:category;MODE=MySQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.hibernate.ddl-auto=create-drop"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+  CategoryServiceImpl.class,
+  CategoryMapper.class,
+  ProductImageReleaser.class,
+  StoredImageService.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋 이후 S3 삭제까지 확인하도록
+class CategoryServiceImplTest {
+
+  private static final String SHARED = "a".repeat(64);
+  private static final String ONLY = "b".repeat(64);
+
+  @Autowired private CategoryService categoryService;
+  @Autowired private CategoryRepository categoryRepository;
+  @Autowired private ProductRepository productRepository;
+  @Autowired private StoredImageRepository storedImageRepository;
+
+  @MockitoBean private ImageUploadPipeline imageUploadPipeline;
+  @MockitoBean private S3Service s3Service;
+  @MockitoBean private MenuSnapshotCache menuSnapshotCache;
+
+  private Long dessertId;
+
+  @BeforeEach
+  void setUp() {
+    Category drink = categoryRepository.save(Category.builder().name("음료").build());
+    Category dessert = categoryRepository.save(Category.builder().name("디저트").build());
+    dessertId = dessert.getId();
+
+    // SHARED는 다른 카테고리 상품도 참조, ONLY는 삭제되는 카테고리에서만 참조
+    storedImageRepository.save(storedImage(SHARED, 2));
+    storedImageRepository.save(storedImage(ONLY, 1));
+
+    Product latte = product(drink, "라떼");
+    addImage(latte, SHARED + ".webp", SHARED);
+    productRepository.save(latte);
+
+    Product cake = product(dessert, "케이크");
+    addImage(cake, SHARED + ".webp", SHARED);
+    addImage(cake, ONLY + ".webp", ONLY);
+    addImage(cake, "old.png", null); // 중복 제거 도입 전 이미지
+    productRepository.save(cake);
+  }
+
+  @AfterEach
+  void tearDown() {
+    productRepository.deleteAll();
+    categoryRepository.deleteAll();
+    storedImageRepository.deleteAll();
+  }
+
+  @Test
+  void deletingCategoryReleasesProductImages() {
+    categoryService.deleteCategory(dessertId);
+
+    List<StoredImageRow> rows =
+        storedImageRepository.findRowsByContentHashIn(List.of(SHARED, ONLY));
+    assertThat(rows)
+        .singleElement()
+        .satisfies(
+            row -> {
+              assertThat(row.contentHash()).isEqualTo(SHARED);
+              assertThat(row.refCount()).isEqualTo(1);
+            });
+
+    // 참조가 0이 된 이미지만 커밋 이후 삭제, 중복 제거 도입 전 이미지는 URL로 바로 삭제
+    verify(imageUploadPipeline).deleteAll(List.of("product/" + ONLY));
+    verify(s3Service).deleteByUrl("old.png");
+    assertThat(productRepository.findAll()).extracting(Product::getName).containsExactly("라떼");
+  }
+
+  private static StoredImage storedImage(String hash, int refCount) {
+    return StoredImage.builder()
+        .contentHash(hash)
+        .keyBase("product/" + hash)
+        .imageUrl(hash + ".webp")
+        .smallImageUrl(hash + "_160.webp")
+        .mediumImageUrl(hash + "_480.webp")
+        .refCount(refCount)
+        .build();
+  }
+
+  private static Product product(Category category, String name) {
+    return Product.builder().category(category).name(name).price(3000).build();
+  }
+
+  private static void addImage(Product product, String imageUrl, String contentHash) {
+    product
+        .getImages()
+        .add(
+            ProductImage.builder()
+                .product(product)
+                .imageUrl(imageUrl)
+                .contentHash(contentHash)
+                .orderNum(product.getImages().size())
+                .build());
+  }
+}
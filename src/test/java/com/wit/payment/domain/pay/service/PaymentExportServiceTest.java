@@ -0,0 +1,73 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.pay.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wit.payment.domain.pay.dto.request.PaymentExportFormat;
+import com.wit.payment.domain.pay.repository.PaymentExportRow;
+import com.wit.payment.domain.pay.repository.PaymentRepository;
+
+class PaymentExportServiceTest {
+
+  private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+  private final PaymentExportService exportService =
+      new PaymentExportService(paymentRepository, new ObjectMapper());
+
+  @Test
+  void csvCellsStartingWithFormulaCharactersAreEscaped() throws Exception {
+    when(paymentRepository.streamForExport(null, null, null))
+        .thenReturn(
+            Stream.of(
+                row("=HYPERLINK(\"http://x\")", "+1", "-2", "@SUM(A1)"),
+                row("\t12345678", "\r99", "12345678", "a=b")));
+
+    String[] lines = exportCsv().split("\r\n");
+
+    assertThat(lines).hasSize(3);
+    assertThat(lines[1])
+        .isEqualTo(
+            "1,2025-11-03,12:00,\"'=HYPERLINK(\"\"http://x\"\")\",'+1,'-2,'@SUM(A1),"
+                + "1000,90,0,00,1,I");
+    // CR로 시작하는 값은 ' 를 붙인 뒤 RFC 4180 규칙대로 따옴표로 감싼다.
+    assertThat(lines[2])
+        .isEqualTo("1,2025-11-03,12:00,'\t12345678,\"'\r99\",12345678,a=b,1000,90,0,00,1,I");
+  }
+
+  private String exportCsv() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long count = exportService.export(out, PaymentExportFormat.CSV, null, null, null);
+    assertThat(count).isEqualTo(2);
+    return out.toString(StandardCharsets.UTF_8).substring(1); // BOM 제외
+  }
+
+  private static PaymentExportRow row(
+      String approvalNo, String vanTransactionNo, String terminalId, String terminalNo) {
+    return new PaymentExportRow(
+        1L,
+        LocalDate.of(2025, 11, 3),
+        LocalTime.of(12, 0),
+        approvalNo,
+        vanTransactionNo,
+        terminalId,
+        terminalNo,
+        1000,
+        90,
+        0,
+        "00",
+        "1",
+        "I");
+  }
+}
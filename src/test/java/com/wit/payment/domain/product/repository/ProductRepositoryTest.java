@@ -0,0 +1,119 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.product.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.wit.payment.domain.category.entity.Category;
+import com.wit.payment.domain.kiosk.entity.Kiosk;
+import com.wit.payment.domain.kiosk.entity.KioskProduct;
+import com.wit.payment.domain.product.entity.Product;
+import com.wit.payment.domain.product.entity.ProductImage;
+import com.wit.payment.domain.product.entity.ProductStatus;
+
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:product;MODE=MySQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductRepositoryTest {
+
+  @Autowired private ProductRepository productRepository;
+  @Autowired private EntityManager em;
+
+  private Statistics stats;
+  private Long kioskId;
+
+  @BeforeEach
+  void setUp() {
+    Category drink = persist(Category.builder().name("음료").build());
+    Category dessert = persist(Category.builder().name("디저트").build());
+
+    Product latte = persist(product(drink, "라떼", ProductStatus.ON_SALE));
+    Product cake = persist(product(dessert, "케이크", ProductStatus.SOLD_OUT));
+    persist(product(drink, "단종", ProductStatus.HIDDEN));
+    for (int i = 0; i < 10; i++) {
+      persist(product(dessert, "쿠키" + i, ProductStatus.ON_SALE));
+    }
+
+    // 대표 이미지는 순서가 가장 작은 이미지 (저장 순서와 무관), 작은 사본이 있으면 사본을 쓴다.
+    persist(image(latte, "latte-1.webp", "latte-1_160.webp", 1));
+    persist(image(latte, "latte-0.webp", "latte-0_160.webp", 0));
+    persist(image(cake, "cake-0.webp", null, 0));
+
+    Kiosk kiosk = persist(Kiosk.builder().name("1호기").build());
+    persist(KioskProduct.of(kiosk, cake));
+    kioskId = kiosk.getId();
+
+    em.flush();
+    em.clear();
+
+    stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    stats.clear();
+  }
+
+  @Test
+  void summariesAreLoadedInSingleQuery() {
+    List<ProductSummaryRow> rows = productRepository.findSummaries(ProductStatus.HIDDEN);
+
+    assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(rows).hasSize(12).extracting(ProductSummaryRow::name).doesNotContain("단종");
+
+    ProductSummaryRow latte = rows.get(0);
+    assertThat(latte.name()).isEqualTo("라떼");
+    assertThat(latte.categoryName()).isEqualTo("음료");
+    assertThat(latte.thumbnailImageUrl()).isEqualTo("latte-0_160.webp");
+    assertThat(rows.get(1).thumbnailImageUrl()).isEqualTo("cake-0.webp");
+    assertThat(rows.get(2).thumbnailImageUrl()).isNull();
+  }
+
+  @Test
+  void kioskSummariesAreLoadedInSingleQuery() {
+    List<ProductSummaryRow> rows =
+        productRepository.findSummariesByKiosk(kioskId, ProductStatus.HIDDEN);
+
+    assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(rows)
+        .singleElement()
+        .satisfies(
+            row -> {
+              assertThat(row.name()).isEqualTo("케이크");
+              assertThat(row.categoryName()).isEqualTo("디저트");
+              assertThat(row.status()).isEqualTo(ProductStatus.SOLD_OUT);
+              assertThat(row.thumbnailImageUrl()).isEqualTo("cake-0.webp");
+            });
+  }
+
+  private <T> T persist(T entity) {
+    em.persist(entity);
+    return entity;
+  }
+
+  private static Product product(Category category, String name, ProductStatus status) {
+    return Product.builder().category(category).name(name).price(3000).status(status).build();
+  }
+
+  private static ProductImage image(Product product, String url, String smallUrl, int order) {
+    return ProductImage.builder()
+        .product(product)
+        .imageUrl(url)
+        .smallImageUrl(smallUrl)
+        .orderNum(order)
+        .build();
+  }
+}
@@ -0,0 +1,146 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.domain.sales.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.wit.payment.domain.pay.entity.Payment;
+import com.wit.payment.domain.pay.event.PaymentsRecordedEvent;
+import com.wit.payment.domain.pay.repository.PaymentJdbcRepository;
+import com.wit.payment.domain.sales.dto.response.RollupBackfillResponse;
+import com.wit.payment.domain.sales.repository.PaymentRollupJdbcRepository;
+
+/** 결제 커밋 → (재생성) → 커밋 이후 증분 반영 순서가 섞여도 집계가 payments 원본과 같은지 확인한다. */
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:sales;MODE=MySQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.hibernate.ddl-auto=create-drop"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SalesRollupService.class, PaymentRollupJdbcRepository.class, PaymentJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스의 REQUIRES_NEW 트랜잭션이 커밋된 결제를 보도록
+class SalesRollupServiceTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 11, 3);
+
+  @Autowired private SalesRollupService salesRollupService;
+  @Autowired private PaymentJdbcRepository paymentJdbcRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM payment_daily_rollup");
+    jdbcTemplate.update("DELETE FROM payment_daily_rollup_lock");
+    jdbcTemplate.update("DELETE FROM payments");
+  }
+
+  @Test
+  void rebuildBetweenCommitAndIncrementDoesNotDoubleCount() {
+    PaymentsRecordedEvent event = save(payment("000000000001", 1000));
+
+    salesRollupService.backfill(DAY, DAY);
+    salesRollupService.onPaymentsRecorded(event);
+
+    assertTotals(1, 1000);
+  }
+
+  @Test
+  void rebuildAfterIncrementKeepsPayment() {
+    PaymentsRecordedEvent event = save(payment("000000000001", 1000));
+
+    salesRollupService.onPaymentsRecorded(event);
+    salesRollupService.backfill(DAY, DAY);
+
+    assertTotals(1, 1000);
+  }
+
+  @Test
+  void paymentCommittedAfterRebuildIsAdded() {
+    PaymentsRecordedEvent first = save(payment("000000000001", 1000));
+    salesRollupService.backfill(DAY, DAY);
+    salesRollupService.onPaymentsRecorded(first);
+
+    PaymentsRecordedEvent second = save(payment("000000000002", 2500));
+    salesRollupService.onPaymentsRecorded(second);
+
+    assertTotals(2, 3500);
+
+    // 원본에서 다시 만들어도 같아야 한다.
+    salesRollupService.backfill(DAY, DAY);
+    assertTotals(2, 3500);
+  }
+
+  @Test
+  void incrementFailureIsRecoveredByRebuild() {
+    save(payment("000000000001", 1000)); // 증분 반영 없이 커밋만 된 결제
+
+    salesRollupService.backfill(DAY, DAY);
+
+    assertTotals(1, 1000);
+  }
+
+  @Test
+  void backfillProcessesAtMost31DaysPerCall() {
+    RollupBackfillResponse first = salesRollupService.backfill(DAY, DAY.plusDays(40));
+
+    assertThat(first.days()).isEqualTo(31);
+    assertThat(first.to()).isEqualTo(DAY.plusDays(30));
+    assertThat(first.nextFrom()).isEqualTo(DAY.plusDays(31));
+
+    RollupBackfillResponse second = salesRollupService.backfill(first.nextFrom(), DAY.plusDays(40));
+
+    assertThat(second.days()).isEqualTo(10);
+    assertThat(second.to()).isEqualTo(DAY.plusDays(40));
+    assertThat(second.nextFrom()).isNull();
+  }
+
+  /** 결제를 커밋하고, 커밋 이후 발행되는 이벤트를 돌려준다. (리스너 호출 시점은 테스트가 정함) */
+  private PaymentsRecordedEvent save(Payment payment) {
+    List<Long> ids = paymentJdbcRepository.insertAll(List.of(payment));
+    return PaymentsRecordedEvent.of(List.of(payment), ids);
+  }
+
+  private void assertTotals(long count, long amount) {
+    String sql = "SELECT %s FROM payment_daily_rollup WHERE sales_date = ? AND product_id = 0";
+    assertThat(jdbcTemplate.queryForObject(sql.formatted("payment_count"), Long.class, DAY))
+        .isEqualTo(count);
+    assertThat(jdbcTemplate.queryForObject(sql.formatted("gross_amount"), Long.class, DAY))
+        .isEqualTo(amount);
+  }
+
+  private static Payment payment(String vanTransactionNo, int amount) {
+    return Payment.builder()
+        .phoneNumber("01000000000")
+        .delivery(false)
+        .amount(amount)
+        .vatAmount(amount / 11)
+        .svcAmount(0)
+        .installment("00")
+        .orgApprovedDate(DAY)
+        .orgApprovedTime(LocalTime.of(12, 0))
+        .approvalNoRaw("12345678    ")
+        .approvalNo("12345678")
+        .vanTransactionNo(vanTransactionNo)
+        .terminalNo("12345678900001")
+        .terminalId("1234567890")
+        .terminalSequenceNo("0001")
+        .tranTypeCode("1")
+        .mediaType("I")
+        .build();
+  }
+}
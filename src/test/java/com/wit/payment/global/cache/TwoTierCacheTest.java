@@ -0,0 +1,109 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** 원본 조회 중에 무효화가 끼어들면 이전 값이 로컬 캐시에 남지 않는지 확인한다. */
+class TwoTierCacheTest {
+
+  private final AtomicInteger version = new AtomicInteger();
+  private TwoTierCache<String> cache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    ValueOperations<String, String> ops = mock(ValueOperations.class);
+    when(redis.opsForValue()).thenReturn(ops);
+    when(ops.get(anyString())).thenReturn(null); // 항상 Redis 미스
+
+    TwoTierCacheManager manager = new TwoTierCacheManager(redis, new ObjectMapper());
+    cache =
+        manager.create("test", String.class, 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+  }
+
+  @Test
+  void valueLoadedBeforeInvalidationIsNotCachedLocally() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch invalidated = new CountDownLatch(1);
+
+    // 원본을 읽은 직후(반환 전)에 무효화가 일어나는 조회
+    CompletableFuture<String> slow =
+        CompletableFuture.supplyAsync(
+            () ->
+                cache.get(
+                    "menu",
+                    () -> {
+                      String loaded = "v" + version.get();
+                      loading.countDown();
+                      await(invalidated);
+                      return loaded;
+                    }));
+
+    await(loading);
+    version.incrementAndGet();
+    cache.invalidateAll();
+    invalidated.countDown();
+
+    assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("v0");
+    assertThat(cache.get("menu", current())).isEqualTo("v1");
+  }
+
+  @Test
+  void concurrentReadersNeverKeepStaleValueAfterInvalidation() throws Exception {
+    for (int round = 0; round < 200; round++) {
+      CountDownLatch start = new CountDownLatch(1);
+      CompletableFuture<?>[] readers = new CompletableFuture<?>[8];
+      for (int i = 0; i < readers.length; i++) {
+        readers[i] =
+            CompletableFuture.runAsync(
+                () -> {
+                  await(start);
+                  for (int n = 0; n < 50; n++) {
+                    cache.get("menu", current());
+                  }
+                });
+      }
+
+      start.countDown();
+      version.incrementAndGet();
+      cache.invalidateAll();
+      CompletableFuture.allOf(readers).get(10, TimeUnit.SECONDS);
+
+      // 무효화 이후의 조회는 무효화 이전에 읽은 값을 보지 않는다.
+      assertThat(cache.get("menu", current())).isEqualTo("v" + version.get());
+    }
+  }
+
+  private Supplier<String> current() {
+    return () -> "v" + version.get();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
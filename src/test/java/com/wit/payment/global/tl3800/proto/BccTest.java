@@ -0,0 +1,61 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BccTest {
+
+  /** 기존 바이트 단위 구현 (기준) */
+  private static byte reference(byte[] src, int from, int toInclusive) {
+    byte x = 0x00;
+    for (int i = from; i <= toInclusive; i++) {
+      x ^= src[i];
+    }
+    return x;
+  }
+
+  @Test
+  void xorIsBitIdenticalToBytewiseXor() {
+    Random random = new Random(3800);
+    for (int len = 1; len <= 300; len++) {
+      byte[] bytes = new byte[len + 16];
+      random.nextBytes(bytes);
+      ByteBuffer heap = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+      for (int from = 0; from < 9; from++) {
+        int to = from + len - 1;
+        byte expected = reference(bytes, from, to);
+
+        assertThat(Bcc.xor(bytes, from, to)).isEqualTo(expected);
+        assertThat(Bcc.xor(heap, from, to)).isEqualTo(expected);
+        assertThat(Bcc.xor(direct, from, to)).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  void emptyRangeIsZero() {
+    byte[] bytes = {0x02, 0x03};
+
+    assertThat(Bcc.xor(bytes, 1, 0)).isZero();
+    assertThat(Bcc.xor(ByteBuffer.wrap(bytes), 1, 0)).isZero();
+  }
+
+  @Test
+  void builtFrameVerifiesWithStrictParser() {
+    byte[] data = new byte[190];
+    new Random(1).nextBytes(data);
+    byte[] frame = TLPacket.build("7109912041", "20251208202639", 'b', 0, data);
+
+    assertThat(frame[frame.length - 1]).isEqualTo(reference(frame, 0, frame.length - 2));
+    assertThat(TLPacket.parseStrict(frame).data).isEqualTo(data);
+  }
+}
@@ -0,0 +1,152 @@
+/* 
+ * Copyright (c) WIT Global 
+ */
+package com.wit.payment.global.tl3800.proto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TLFrameDecoderTest {
+
+  private final List<byte[]> decoded = new ArrayList<>();
+
+  /** 프레임은 콜백 안에서만 유효하므로 바로 복사해 둔다. */
+  private final TLFrameDecoder decoder = new TLFrameDecoder(frame -> decoded.add(copy(frame)));
+
+  /** 데이터에 STX(0x02)가 섞이지 않도록 ASCII만 사용 (재동기화 위치를 예측 가능하게) */
+  private static byte[] frame(char job, String data) {
+    return TLPacket.build(
+        "7109912041", "20251208202639", job, 0, data.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private static byte[] copy(TLFrame frame) {
+    ByteBuffer buf = frame.frame();
+    byte[] bytes = new byte[buf.remaining()];
+    buf.get(bytes);
+    return bytes;
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      out.writeBytes(part);
+    }
+    return out.toByteArray();
+  }
+
+  private void feed(byte[] bytes, int from, int to) {
+    decoder.decode(ByteBuffer.wrap(bytes, from, to - from));
+  }
+
+  @Test
+  void frameSplitAtEveryOffsetIsReassembled() {
+    byte[] frame = frame('b', "0123456789".repeat(19));
+
+    for (int split = 1; split < frame.length; split++) {
+      decoded.clear();
+      feed(frame, 0, split);
+      assertThat(decoded).isEmpty();
+
+      feed(frame, split, frame.length);
+      assertThat(decoded).as("split=%d", split).singleElement().isEqualTo(frame);
+      assertThat(decoder.pendingBytes()).isZero();
+    }
+    assertThat(decoder.corruptFrames()).isZero();
+    assertThat(decoder.droppedBytes()).isZero();
+  }
+
+  @Test
+  void frameFedByteByByteIsReassembled() {
+    byte[] frame = frame('b', "0123456789".repeat(19));
+
+    for (int i = 0; i < frame.length; i++) {
+      feed(frame, i, i + 1);
+    }
+
+    assertThat(decoded).singleElement().isEqualTo(frame);
+    assertThat(decoder.pendingBytes()).isZero();
+  }
+
+  @Test
+  void multipleFramesInOneBufferAreDecodedInOrder() {
+    byte[] first = frame('A', "");
+    byte[] second = frame('b', "approved");
+    byte[] third = frame('C', "0123456789".repeat(5));
+    byte[] all = concat(first, second, third);
+
+    feed(all, 0, all.length);
+
+    assertThat(decoded).containsExactly(first, second, third);
+    assertThat(decoder.frames()).isEqualTo(3);
+
+    // 두 번째 프레임 중간에서 잘려도 같은 결과
+    decoded.clear();
+    int split = first.length + second.length / 2;
+    feed(all, 0, split);
+    feed(all, split, all.length);
+
+    assertThat(decoded).containsExactly(first, second, third);
+  }
+
+  @Test
+  void junkBeforeStxIsSkipped() {
+    byte[] junk = {0x00, 0x41, Proto.ETX, (byte) 0xFF, Proto.ACK};
+    byte[] frame = frame('b', "approved");
+
+    feed(concat(junk, frame), 0, junk.length + frame.length);
+
+    assertThat(decoded).singleElement().isEqualTo(frame);
+    assertThat(decoder.droppedBytes()).isEqualTo(junk.length);
+    assertThat(decoder.corruptFrames()).isZero();
+  }
+
+  @Test
+  void badEtxOrBccResyncsToNextStx() {
+    byte[] badBcc = frame('b', "approved");
+    badBcc[badBcc.length - 1] ^= 0x01;
+    byte[] badEtx = frame('b', "approved");
+    badEtx[badEtx.length - 2] = 0x00;
+    byte[] good = frame('c', "next");
+    byte[] all = concat(badBcc, badEtx, good);
+
+    feed(all, 0, all.length);
+
+    assertThat(decoded).singleElement().isEqualTo(good);
+    assertThat(decoder.corruptFrames()).isEqualTo(2);
+    assertThat(decoder.droppedBytes()).isEqualTo(badBcc.length + badEtx.length);
+
+    // 보류 버퍼 경로(청크 경계)에서도 같은 위치로 재동기화
+    decoded.clear();
+    for (int i = 0; i < all.length; i++) {
+      feed(all, i, i + 1);
+    }
+
+    assertThat(decoded).singleElement().isEqualTo(good);
+    assertThat(decoder.pendingBytes()).isZero();
+  }
+
+  @Test
+  void dataLengthOverLimitIsRejectedWithoutWaitingForBody() {
+    TLFrameDecoder limited = new TLFrameDecoder(16, frame -> decoded.add(copy(frame)));
+    byte[] oversized = frame('b', "0123456789".repeat(4));
+    byte[] good = frame('c', "next");
+
+    // 헤더만 와도 길이 초과로 바로 버린다 (본문을 기다리며 보류하지 않음)
+    limited.decode(ByteBuffer.wrap(oversized, 0, Proto.HEADER_BYTES));
+    assertThat(limited.corruptFrames()).isEqualTo(1);
+    assertThat(limited.pendingBytes()).isZero();
+
+    limited.decode(ByteBuffer.wrap(concat(oversized, good)));
+
+    assertThat(decoded).singleElement().isEqualTo(good);
+    assertThat(limited.corruptFrames()).isEqualTo(2);
+    assertThat(limited.pendingBytes()).isZero();
+  }
+}